@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.Level;
+import org.tinylog.core.LogEntry;
+import org.tinylog.pattern.FormatPatternParser;
+import org.tinylog.pattern.Token;
+import org.tinylog.runtime.RuntimeProvider;
+
+/**
+ * Benchmark for measuring the render throughput of typical format patterns. The rendered text is appended to a
+ * reusable string builder, so that only the rendering of the tokens itself is measured.
+ */
+public class FormatPatternBenchmark {
+
+	/** */
+	public FormatPatternBenchmark() {
+	}
+
+	/**
+	 * Benchmarks rendering a log entry by a parsed format pattern.
+	 *
+	 * @param state
+	 *            Parsed format pattern, log entry, and string builder
+	 * @return Builder with the rendered log entry
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public StringBuilder render(final RenderState state) {
+		StringBuilder builder = state.builder;
+		builder.setLength(0);
+		state.token.render(state.logEntry, builder);
+		return builder;
+	}
+
+	/**
+	 * Holder of the parsed format pattern, the log entry to render, and the reusable string builder.
+	 */
+	@State(Scope.Thread)
+	public static class RenderState {
+
+		/**
+		 * Format pattern to benchmark.
+		 */
+		@Param({
+			"{message}",
+			"{level}: {message}",
+			"{date:yyyy-MM-dd HH:mm:ss.SSS} [{thread}] {class}.{method}()\n{level}: {message}",
+			"{date:HH:mm:ss} {{level}|min-size=5} {{tag}: {message}|indent=2}"
+		})
+		private String pattern;
+
+		private Token token;
+		private LogEntry logEntry;
+		private StringBuilder builder;
+
+		/** */
+		public RenderState() {
+		}
+
+		/**
+		 * Parses the format pattern and creates the log entry to render.
+		 */
+		@Setup
+		public void init() {
+			token = new FormatPatternParser(null).parse(pattern);
+			logEntry = new LogEntry(RuntimeProvider.createTimestamp(), Thread.currentThread(),
+				Collections.<String, String>emptyMap(), FormatPatternBenchmark.class.getName(), "render", null, -1,
+				"benchmark", Level.INFO, "Hello World!", null);
+			builder = new StringBuilder();
+		}
+
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.core.TinylogLoggingProvider;
+import org.tinylog.format.AdvancedMessageFormatter;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.writers.Writer;
+
+/**
+ * Benchmark for measuring the allocation rate of issuing log entries with and without garbage-free mode. The
+ * allocated bytes per operation can be measured by running this benchmark with the GC profiler ({@code -prof gc}).
+ *
+ * <p>
+ * The arguments array for the text message is created once, as the varargs array of a logger method would be
+ * allocated by the caller in any case. The used writer appends the text message to a reusable string builder without
+ * any I/O.
+ * </p>
+ */
+public class GarbageFreeBenchmark {
+
+	private static final String MESSAGE = "Hello {}!";
+
+	/** */
+	public GarbageFreeBenchmark() {
+	}
+
+	/**
+	 * Benchmarks issuing a log entry with a text message and one argument.
+	 *
+	 * @param state
+	 *            Logging provider and arguments
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public void log(final LoggingState state) {
+		state.provider.log(1, null, org.tinylog.Level.INFO, null, state.formatter, MESSAGE, state.arguments);
+	}
+
+	/**
+	 * Holder of the logging provider and the message arguments.
+	 */
+	@State(Scope.Benchmark)
+	public static class LoggingState {
+
+		/**
+		 * Defines whether garbage-free mode is enabled.
+		 */
+		@Param({"false", "true"})
+		private boolean garbageFree;
+
+		/**
+		 * Defines whether log entries are written asynchronously by the writing thread.
+		 */
+		@Param({"false", "true"})
+		private boolean writingThread;
+
+		private TinylogLoggingProvider provider;
+		private MessageFormatter formatter;
+		private Object[] arguments;
+
+		/** */
+		public LoggingState() {
+		}
+
+		/**
+		 * Configures and creates the logging provider.
+		 */
+		@Setup(Level.Trial)
+		public void init() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("autoshutdown", "false");
+			configuration.put("garbagefree", Boolean.toString(garbageFree));
+			configuration.put("writingthread", Boolean.toString(writingThread));
+			configuration.put("writer", MessageWriter.class.getName());
+			Configuration.replace(configuration);
+
+			provider = new TinylogLoggingProvider();
+			formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+			arguments = new Object[] {"World"};
+		}
+
+		/**
+		 * Shuts down the logging provider.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the writing thread
+		 */
+		@TearDown(Level.Trial)
+		public void release() throws InterruptedException {
+			provider.shutdown();
+		}
+
+	}
+
+	/**
+	 * Writer that appends the text message of log entries to a reusable string builder.
+	 */
+	public static final class MessageWriter implements Writer {
+
+		private final StringBuilder builder;
+
+		/**
+		 * @param properties
+		 *            Configuration for writer
+		 */
+		public MessageWriter(final Map<String, String> properties) {
+			builder = new StringBuilder();
+		}
+
+		@Override
+		public Collection<LogEntryValue> getRequiredLogEntryValues() {
+			return EnumSet.of(LogEntryValue.MESSAGE);
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+			builder.setLength(0);
+			builder.append(logEntry.getMessageAsCharSequence());
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
@@ -13,16 +13,23 @@
 
 package org.tinylog.benchmarks.api;
 
+import java.lang.StackWalker.Option;
 import java.lang.StackWalker.StackFrame;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.tinylog.runtime.RuntimeProvider;
 
 /**
- * Benchmark for comparing methods to extract a defined element from stack trace.
+ * Benchmark for comparing methods to extract a defined element from stack trace. All methods are called at a
+ * configurable stack depth, as some methods have to process the entire stack trace.
  *
  * @see StackWalker
  * @see sun.reflect.Reflection
@@ -30,6 +37,8 @@ import org.openjdk.jmh.annotations.Mode;
  */
 public class StackTraceBenchmark {
 
+	private static final StackWalker CLASS_WALKER = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+
 	/** */
 	public StackTraceBenchmark() {
 	}
@@ -37,84 +46,124 @@ public class StackTraceBenchmark {
 	/**
 	 * Benchmarks extracting a stack frame from stack walker by using a lambda expression.
 	 * 
+	 * @param stack
+	 *            Stack depth
 	 * @return Found stack frame
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
-	public StackFrame stackWalkerWithLambda() {
-		return StackWalker.getInstance().walk(stream -> stream.skip(1).findFirst().get());
+	public StackFrame stackWalkerWithLambda(final Stack stack) {
+		return stack.call(() -> StackWalker.getInstance().walk(stream -> stream.skip(1).findFirst().get()));
 	}
 
 	/**
 	 * Benchmarks extracting a stack frame from stack walker by using an anonymous inner class.
 	 * 
+	 * @param stack
+	 *            Stack depth
 	 * @return Found stack frame
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
-	public StackFrame stackWalkerWithAnonymousClass() {
-		return StackWalker.getInstance().walk(new Function<Stream<StackFrame>, StackFrame>() {
+	public StackFrame stackWalkerWithAnonymousClass(final Stack stack) {
+		return stack.call(() -> StackWalker.getInstance().walk(new Function<Stream<StackFrame>, StackFrame>() {
 			@Override
 			public StackFrame apply(final Stream<StackFrame> stream) {
 				return stream.skip(1).findFirst().get();
 			}
-		});
+		}));
 	}
 
 	/**
 	 * Benchmarks extracting a stack frame from stack walker by using a static inner class.
 	 * 
+	 * @param stack
+	 *            Stack depth
 	 * @return Found stack frame
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
-	public StackFrame stackWalkerWithInnerClass() {
-		return StackWalker.getInstance().walk(new StackFrameExtractor(1));
+	public StackFrame stackWalkerWithInnerClass(final Stack stack) {
+		return stack.call(() -> StackWalker.getInstance().walk(new StackFrameExtractor(1)));
+	}
+
+	/**
+	 * Benchmarks extracting the class of a stack frame from a stack walker that retains class references.
+	 *
+	 * @param stack
+	 *            Stack depth
+	 * @return Found class
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public Class<?> stackWalkerWithClassReference(final Stack stack) {
+		return stack.call(() -> CLASS_WALKER.walk(new StackFrameExtractor(1)).getDeclaringClass());
 	}
 
 	/**
 	 * Benchmarks getting the caller class from stack trace walker.
 	 *
+	 * @param stack
+	 *            Stack depth
 	 * @return Found caller class
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
-	public Class<?> stackWalkerCallerClass() {
-		return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).getCallerClass();
+	public Class<?> stackWalkerCallerClass(final Stack stack) {
+		return stack.call(() -> CLASS_WALKER.getCallerClass());
 	}
 
 	/**
 	 * Benchmarks extracting a class via Sun reflection.
 	 * 
+	 * @param stack
+	 *            Stack depth
 	 * @return Found class
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
 	@SuppressWarnings("removal")
-	public Class<?> sunReflection() {
-		return sun.reflect.Reflection.getCallerClass(1);
+	public Class<?> sunReflection(final Stack stack) {
+		return stack.call(() -> sun.reflect.Reflection.getCallerClass(1));
 	}
 
 	/**
 	 * Benchmarks extracting a stack trace element from stack trace of a throwable.
 	 *
+	 * @param stack
+	 *            Stack depth
 	 * @return Found stack trace element
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
-	public StackTraceElement throwable() {
-		return new Throwable().getStackTrace()[1];
+	public StackTraceElement throwable(final Stack stack) {
+		return stack.call(() -> new Throwable().getStackTrace()[1]);
 	}
 
 	/**
 	 * Benchmarks extracting caller class context from security manager.
 	 *
-	 * @return Found stack trace element
+	 * @param stack
+	 *            Stack depth
+	 * @return Found class
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	public Class<?> securityManager(final Stack stack) {
+		return stack.call(() -> new ClassContextSecurityManager().getClassContext()[1]);
+	}
+
+	/**
+	 * Benchmarks getting the caller class name from tinylog's runtime dialect for the current JVM.
+	 *
+	 * @param stack
+	 *            Stack depth
+	 * @return Found class name
 	 */
 	@Benchmark
 	@BenchmarkMode(Mode.Throughput)
-	public Class<?> securityManager() {
-		return new ClassContextSecurityManager().getClassContext()[1];
+	public String runtimeProvider(final Stack stack) {
+		return stack.call(() -> RuntimeProvider.getCallerClassName(1));
 	}
 
 	/* Throwable.getStackTraceElement() is only available on Java 8 and prior */
@@ -149,6 +198,49 @@ public class StackTraceBenchmark {
 	//		}
 	//	}
 
+	/**
+	 * State for calling methods at a defined stack depth.
+	 */
+	@State(Scope.Thread)
+	public static class Stack {
+
+		@Param({"20", "100", "500"})
+		private int depth;
+
+		/** */
+		public Stack() {
+		}
+
+		/**
+		 * Calls the passed supplier at the configured stack depth.
+		 *
+		 * @param supplier
+		 *            Supplier to call
+		 * @param <T>
+		 *            Type of value
+		 * @return Value from supplier
+		 */
+		public <T> T call(final Supplier<T> supplier) {
+			return descend(depth, supplier);
+		}
+
+		/**
+		 * Calls itself recursively until the remaining depth is reached and calls the passed supplier.
+		 *
+		 * @param remaining
+		 *            Remaining number of stack frames to add
+		 * @param supplier
+		 *            Supplier to call
+		 * @param <T>
+		 *            Type of value
+		 * @return Value from supplier
+		 */
+		private static <T> T descend(final int remaining, final Supplier<T> supplier) {
+			return remaining > 0 ? descend(remaining - 1, supplier) : supplier.get();
+		}
+
+	}
+
 	/**
 	 * Extractor for extracting a defined stack frame from stack trace.
 	 */
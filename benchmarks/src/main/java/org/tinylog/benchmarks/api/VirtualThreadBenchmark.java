@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tinylog.core.TinylogContextProvider;
+import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.SynchronizedWriterDecorator;
+
+/**
+ * Benchmark for measuring the time for logging from 100,000 concurrent virtual threads. Each virtual thread reads and
+ * writes thread context values and outputs one log entry to a shared writer, which blocks periodically for simulating
+ * I/O.
+ *
+ * <p>
+ * This benchmark requires Java 21 or later.
+ * </p>
+ */
+public class VirtualThreadBenchmark {
+
+	private static final int VIRTUAL_THREADS = 100_000;
+	private static final int WRITES_PER_FLUSH = 64;
+	private static final long NANOSECONDS_PER_FLUSH = 50_000L;
+	private static final long TIMEOUT_IN_MINUTES = 10;
+
+	private static final byte[] DATA = "Hello World!\n".getBytes(StandardCharsets.US_ASCII);
+
+	/** */
+	public VirtualThreadBenchmark() {
+	}
+
+	/**
+	 * Benchmarks logging from 100,000 virtual threads.
+	 *
+	 * @param state
+	 *            Context provider and writer
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the virtual threads
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void log(final VirtualThreadState state) throws InterruptedException {
+		ExecutorService executor = state.createExecutor();
+
+		for (int i = 0; i < VIRTUAL_THREADS; ++i) {
+			executor.execute(() -> {
+				state.context.put("thread", state.context.get("user"));
+				try {
+					state.writer.write(DATA, 0, DATA.length);
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(TIMEOUT_IN_MINUTES, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Holder of the context provider and the shared writer.
+	 */
+	@State(Scope.Benchmark)
+	public static class VirtualThreadState {
+
+		/**
+		 * Defines whether virtual threads inherit the thread context values from the submitting thread.
+		 */
+		@Param({"true", "false"})
+		private boolean inheritable;
+
+		/**
+		 * Synchronization of the shared writer: "monitor" uses {@code synchronized} like previous tinylog versions,
+		 * "lock" uses {@link SynchronizedWriterDecorator}.
+		 */
+		@Param({"monitor", "lock"})
+		private String synchronization;
+
+		private TinylogContextProvider context;
+		private ByteArrayWriter writer;
+
+		/** */
+		public VirtualThreadState() {
+		}
+
+		/**
+		 * Creates the context provider and the shared writer.
+		 */
+		@Setup(Level.Trial)
+		public void init() {
+			context = new TinylogContextProvider(inheritable);
+			context.put("user", "benchmark");
+
+			ByteArrayWriter device = new BlockingWriter();
+			if ("monitor".equals(synchronization)) {
+				writer = new MonitorWriterDecorator(device);
+			} else {
+				writer = new SynchronizedWriterDecorator(device);
+			}
+		}
+
+		/**
+		 * Clears the thread context of the benchmark thread.
+		 */
+		@TearDown(Level.Trial)
+		public void clear() {
+			context.clear();
+		}
+
+		/**
+		 * Creates an executor that starts a new virtual thread for each task.
+		 *
+		 * @return Virtual thread executor
+		 * @throws UnsupportedOperationException
+		 *             Virtual threads are not supported by the JVM
+		 */
+		private ExecutorService createExecutor() {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException ex) {
+				throw new UnsupportedOperationException("Virtual threads require Java 21 or later", ex);
+			}
+		}
+
+	}
+
+	/**
+	 * Writer that discards all data, but blocks periodically for simulating flushing to a slow device. This writer is
+	 * not thread-safe.
+	 */
+	private static final class BlockingWriter implements ByteArrayWriter {
+
+		private int count;
+
+		/** */
+		private BlockingWriter() {
+		}
+
+		@Override
+		public int readTail(final byte[] data, final int offset, final int length) {
+			return 0;
+		}
+
+		@Override
+		public void write(final byte[] data, final int length) {
+			write(data, 0, length);
+		}
+
+		@Override
+		public void write(final byte[] data, final int offset, final int length) {
+			if (++count % WRITES_PER_FLUSH == 0) {
+				LockSupport.parkNanos(NANOSECONDS_PER_FLUSH);
+			}
+		}
+
+		@Override
+		public void truncate(final int count) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+	/**
+	 * Thread-safe decorator that uses {@code synchronized}, which pins waiting virtual threads to their carrier
+	 * threads.
+	 */
+	private static final class MonitorWriterDecorator implements ByteArrayWriter {
+
+		private final ByteArrayWriter writer;
+
+		/**
+		 * @param writer
+		 *            Underlying writer
+		 */
+		private MonitorWriterDecorator(final ByteArrayWriter writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public synchronized int readTail(final byte[] data, final int offset, final int length) throws IOException {
+			return writer.readTail(data, offset, length);
+		}
+
+		@Override
+		public void write(final byte[] data, final int length) throws IOException {
+			write(data, 0, length);
+		}
+
+		@Override
+		public synchronized void write(final byte[] data, final int offset, final int length) throws IOException {
+			writer.write(data, offset, length);
+		}
+
+		@Override
+		public synchronized void truncate(final int count) throws IOException {
+			writer.truncate(count);
+		}
+
+		@Override
+		public synchronized void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			writer.close();
+		}
+
+	}
+
+}
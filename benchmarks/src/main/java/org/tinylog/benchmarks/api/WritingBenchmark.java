@@ -46,6 +46,8 @@ public class WritingBenchmark {
 
 	private static final long LINES = 1_000_000;
 	private static final int BUFFER_CAPACITY = 64 * 1024;
+	private static final int GATHERING_BUFFER_COUNT = 16;
+	private static final int GATHERING_BUFFER_CAPACITY = 16 * 1024;
 
 	/** */
 	public WritingBenchmark() {
@@ -243,6 +245,45 @@ public class WritingBenchmark {
 		}
 	}
 
+	/**
+	 * Benchmarks writing via {@link FileChannel} with using a pool of direct {@link ByteBuffer ByteBuffers} that are
+	 * written by gathering writes.
+	 *
+	 * @param configuration
+	 *            Configuration with target file
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void gatheringByteBuffersFileChannel(final Configuration configuration) throws IOException {
+		ByteBuffer[] buffers = new ByteBuffer[GATHERING_BUFFER_COUNT];
+		for (int i = 0; i < buffers.length; ++i) {
+			buffers[i] = ByteBuffer.allocateDirect(GATHERING_BUFFER_CAPACITY);
+		}
+
+		int index = 0;
+
+		try (RandomAccessFile file = new RandomAccessFile(configuration.file, "rw")) {
+			try (FileChannel channel = file.getChannel()) {
+				for (long i = 0; i < LINES; ++i) {
+					if (buffers[index].remaining() < DATA.length) {
+						if (index < buffers.length - 1) {
+							index += 1;
+						} else {
+							write(channel, buffers, buffers.length);
+							index = 0;
+						}
+					}
+
+					buffers[index].put(DATA);
+				}
+
+				write(channel, buffers, index + 1);
+			}
+		}
+	}
+
 	/**
 	 * Benchmarks direct writing via {@link FileOutputStream} without using any kind of buffering.
 	 *
@@ -279,6 +320,35 @@ public class WritingBenchmark {
 		}
 	}
 
+	/**
+	 * Writes the first buffers of a pool by a single gathering write and clears them afterwards.
+	 *
+	 * @param channel
+	 *            Target file channel
+	 * @param buffers
+	 *            Pool of buffers
+	 * @param count
+	 *            Number of buffers to write
+	 * @throws IOException
+	 *             Failed to write to target file
+	 */
+	private static void write(final FileChannel channel, final ByteBuffer[] buffers, final int count)
+		throws IOException {
+		long remaining = 0;
+		for (int i = 0; i < count; ++i) {
+			buffers[i].flip();
+			remaining += buffers[i].remaining();
+		}
+
+		while (remaining > 0) {
+			remaining -= channel.write(buffers, 0, count);
+		}
+
+		for (int i = 0; i < count; ++i) {
+			buffers[i].clear();
+		}
+	}
+
 	/**
 	 * Holder of target file.
 	 */
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.benchmarks.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.tinylog.configuration.Configuration;
+import org.tinylog.core.LogEntry;
+import org.tinylog.core.LogEntryValue;
+import org.tinylog.core.TinylogLoggingConfiguration;
+import org.tinylog.core.WritingThread;
+import org.tinylog.writers.Writer;
+
+/**
+ * Benchmark for measuring the throughput of passing log entries from one or more producer threads to the
+ * {@link WritingThread}.
+ */
+public class WritingThreadBenchmark {
+
+	private static final int FOUR_PRODUCERS = 4;
+	private static final int EIGHT_PRODUCERS = 8;
+
+	private static final LogEntry LOG_ENTRY = new LogEntry(null, null, null, null, null, null, -1, null,
+		org.tinylog.Level.INFO, "Hello World!", null);
+
+	/** */
+	public WritingThreadBenchmark() {
+	}
+
+	/**
+	 * Benchmarks adding log entries from a single producer thread.
+	 *
+	 * @param state
+	 *            Running writing thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@Threads(1)
+	public void oneProducer(final WritingThreadState state) {
+		state.thread.add(state.writers, LOG_ENTRY);
+	}
+
+	/**
+	 * Benchmarks adding log entries from two producer threads simultaneously.
+	 *
+	 * @param state
+	 *            Running writing thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@Threads(2)
+	public void twoProducers(final WritingThreadState state) {
+		state.thread.add(state.writers, LOG_ENTRY);
+	}
+
+	/**
+	 * Benchmarks adding log entries from four producer threads simultaneously.
+	 *
+	 * @param state
+	 *            Running writing thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@Threads(FOUR_PRODUCERS)
+	public void fourProducers(final WritingThreadState state) {
+		state.thread.add(state.writers, LOG_ENTRY);
+	}
+
+	/**
+	 * Benchmarks adding log entries from eight producer threads simultaneously.
+	 *
+	 * @param state
+	 *            Running writing thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@Threads(EIGHT_PRODUCERS)
+	public void eightProducers(final WritingThreadState state) {
+		state.thread.add(state.writers, LOG_ENTRY);
+	}
+
+	/**
+	 * Benchmarks adding log entries from as many producer threads as there are available processors.
+	 *
+	 * @param state
+	 *            Running writing thread
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@Threads(Threads.MAX)
+	public void maxProducers(final WritingThreadState state) {
+		state.thread.add(state.writers, LOG_ENTRY);
+	}
+
+	/**
+	 * Holder of the writing thread and its writers.
+	 */
+	@State(Scope.Benchmark)
+	public static class WritingThreadState {
+
+		/**
+		 * Maximum number of log entries that can be queued.
+		 */
+		@Param({"1024", "16384", "262144"})
+		private int queueSize;
+
+		/**
+		 * Strategy for waiting for new log entries.
+		 */
+		@Param({"sleep", "park", "spin", "batch"})
+		private String waitStrategy;
+
+		/**
+		 * Number of writers that write each log entry.
+		 */
+		@Param({"1", "4"})
+		private int writerCount;
+
+		private Collection<Writer> writers;
+		private WritingThread thread;
+
+		/** */
+		public WritingThreadState() {
+		}
+
+		/**
+		 * Starts the writing thread.
+		 */
+		@Setup(Level.Trial)
+		@SuppressWarnings("unchecked")
+		public void start() {
+			Configuration.set("writingthread.queue.size", Integer.toString(queueSize));
+			Configuration.set("writingthread.wait", waitStrategy);
+
+			writers = new ArrayList<Writer>();
+			for (int i = 0; i < writerCount; ++i) {
+				writers.add(new NopWriter());
+			}
+
+			Collection<Writer>[][] matrix = new Collection[][] {{writers}};
+			thread = new TinylogLoggingConfiguration().createWritingThread(matrix);
+		}
+
+		/**
+		 * Shuts the writing thread down.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for the writing thread
+		 */
+		@TearDown(Level.Trial)
+		public void stop() throws InterruptedException {
+			thread.shutdown();
+			thread.join();
+		}
+
+	}
+
+	/**
+	 * Writer that discards all log entries.
+	 */
+	private static final class NopWriter implements Writer {
+
+		/** */
+		private NopWriter() {
+		}
+
+		@Override
+		public Collection<LogEntryValue> getRequiredLogEntryValues() {
+			return EnumSet.noneOf(LogEntryValue.class);
+		}
+
+		@Override
+		public void write(final LogEntry logEntry) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
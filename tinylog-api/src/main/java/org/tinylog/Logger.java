@@ -164,6 +164,159 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public static void trace(final String message, final Object first, final Object second) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, first, second);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public static void trace(final String message, final Object first, final Object second, final Object third) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, first, second, third);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public static void trace(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, first, second, third, fourth);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void trace(final String message, final int argument) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void trace(final String message, final long argument) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void trace(final String message, final float argument) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void trace(final String message, final double argument) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void trace(final String message, final boolean argument) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void trace(final String message, final char argument) {
+		if (MINIMUM_LEVEL_COVERS_TRACE) {
+			provider.log(STACKTRACE_DEPTH, null, Level.TRACE, null, formatter, message, argument);
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -303,6 +456,159 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public static void debug(final String message, final Object first, final Object second) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, first, second);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public static void debug(final String message, final Object first, final Object second, final Object third) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, first, second, third);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public static void debug(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, first, second, third, fourth);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void debug(final String message, final int argument) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void debug(final String message, final long argument) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void debug(final String message, final float argument) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void debug(final String message, final double argument) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void debug(final String message, final boolean argument) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void debug(final String message, final char argument) {
+		if (MINIMUM_LEVEL_COVERS_DEBUG) {
+			provider.log(STACKTRACE_DEPTH, null, Level.DEBUG, null, formatter, message, argument);
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -441,6 +747,159 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public static void info(final String message, final Object first, final Object second) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, first, second);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public static void info(final String message, final Object first, final Object second, final Object third) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, first, second, third);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public static void info(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, first, second, third, fourth);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void info(final String message, final int argument) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void info(final String message, final long argument) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void info(final String message, final float argument) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void info(final String message, final double argument) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void info(final String message, final boolean argument) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void info(final String message, final char argument) {
+		if (MINIMUM_LEVEL_COVERS_INFO) {
+			provider.log(STACKTRACE_DEPTH, null, Level.INFO, null, formatter, message, argument);
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -580,6 +1039,159 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public static void warn(final String message, final Object first, final Object second) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, first, second);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public static void warn(final String message, final Object first, final Object second, final Object third) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, first, second, third);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public static void warn(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, first, second, third, fourth);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void warn(final String message, final int argument) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void warn(final String message, final long argument) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void warn(final String message, final float argument) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void warn(final String message, final double argument) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void warn(final String message, final boolean argument) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void warn(final String message, final char argument) {
+		if (MINIMUM_LEVEL_COVERS_WARN) {
+			provider.log(STACKTRACE_DEPTH, null, Level.WARN, null, formatter, message, argument);
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -719,6 +1331,159 @@ public final class Logger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public static void error(final String message, final Object first, final Object second) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, first, second);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public static void error(final String message, final Object first, final Object second, final Object third) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, first, second, third);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public static void error(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, first, second, third, fourth);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void error(final String message, final int argument) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void error(final String message, final long argument) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void error(final String message, final float argument) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void error(final String message, final double argument) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void error(final String message, final boolean argument) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, argument);
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public static void error(final String message, final char argument) {
+		if (MINIMUM_LEVEL_COVERS_ERROR) {
+			provider.log(STACKTRACE_DEPTH, null, Level.ERROR, null, formatter, message, argument);
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
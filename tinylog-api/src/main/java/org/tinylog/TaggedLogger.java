@@ -139,6 +139,177 @@ public final class TaggedLogger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public void trace(final String message, final Object first, final Object second) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, first, second);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public void trace(final String message, final Object first, final Object second, final Object third) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, first, second, third);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public void trace(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, first, second, third, fourth);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void trace(final String message, final int argument) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void trace(final String message, final long argument) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void trace(final String message, final float argument) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void trace(final String message, final double argument) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void trace(final String message, final boolean argument) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void trace(final String message, final char argument) {
+		if (minimumLevelCoversTrace) {
+			for (String tag : traceTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.TRACE, null, formatter, message, argument);
+			}
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#TRACE TRACE} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -296,6 +467,177 @@ public final class TaggedLogger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public void debug(final String message, final Object first, final Object second) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, first, second);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public void debug(final String message, final Object first, final Object second, final Object third) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, first, second, third);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public void debug(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, first, second, third, fourth);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void debug(final String message, final int argument) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void debug(final String message, final long argument) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void debug(final String message, final float argument) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void debug(final String message, final double argument) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void debug(final String message, final boolean argument) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void debug(final String message, final char argument) {
+		if (minimumLevelCoversDebug) {
+			for (String tag : debugTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.DEBUG, null, formatter, message, argument);
+			}
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#DEBUG DEBUG} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -452,6 +794,177 @@ public final class TaggedLogger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public void info(final String message, final Object first, final Object second) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, first, second);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public void info(final String message, final Object first, final Object second, final Object third) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, first, second, third);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public void info(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, first, second, third, fourth);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void info(final String message, final int argument) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void info(final String message, final long argument) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void info(final String message, final float argument) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void info(final String message, final double argument) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void info(final String message, final boolean argument) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void info(final String message, final char argument) {
+		if (minimumLevelCoversInfo) {
+			for (String tag : infoTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.INFO, null, formatter, message, argument);
+			}
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#INFO INFO} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -609,6 +1122,177 @@ public final class TaggedLogger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public void warn(final String message, final Object first, final Object second) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, first, second);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public void warn(final String message, final Object first, final Object second, final Object third) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, first, second, third);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public void warn(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, first, second, third, fourth);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void warn(final String message, final int argument) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void warn(final String message, final long argument) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void warn(final String message, final float argument) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void warn(final String message, final double argument) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void warn(final String message, final boolean argument) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void warn(final String message, final char argument) {
+		if (minimumLevelCoversWarn) {
+			for (String tag : warnTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.WARN, null, formatter, message, argument);
+			}
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#WARN WARN} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
@@ -766,6 +1450,177 @@ public final class TaggedLogger {
 		}
 	}
 
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 */
+	public void error(final String message, final Object first, final Object second) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, first, second);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 */
+	public void error(final String message, final Object first, final Object second, final Object third) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, first, second, third);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * arguments.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param first
+	 *            First argument for formatted text message
+	 * @param second
+	 *            Second argument for formatted text message
+	 * @param third
+	 *            Third argument for formatted text message
+	 * @param fourth
+	 *            Fourth argument for formatted text message
+	 */
+	public void error(final String message, final Object first, final Object second, final Object third, final Object fourth) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, first, second, third, fourth);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code int} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void error(final String message, final int argument) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code long} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void error(final String message, final long argument) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code float} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void error(final String message, final float argument) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code double} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void error(final String message, final double argument) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code boolean} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void error(final String message, final boolean argument) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, argument);
+			}
+		}
+	}
+
+	/**
+	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by the given
+	 * {@code char} value. The value will be only boxed if the log entry is really output. Logging providers still
+	 * receive all arguments as objects.
+	 *
+	 * @param message
+	 *            Formatted text message to log
+	 * @param argument
+	 *            Argument for formatted text message
+	 */
+	public void error(final String message, final char argument) {
+		if (minimumLevelCoversError) {
+			for (String tag : errorTags) {
+				provider.log(STACKTRACE_DEPTH, tag, Level.ERROR, null, formatter, message, argument);
+			}
+		}
+	}
+
 	/**
 	 * Logs a formatted message at {@link Level#ERROR ERROR} level. "{}" placeholders will be replaced by given lazy
 	 * arguments. The arguments will be only evaluated if the log entry is really output.
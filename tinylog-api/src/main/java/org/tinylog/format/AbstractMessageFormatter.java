@@ -26,6 +26,22 @@ public abstract class AbstractMessageFormatter implements MessageFormatter {
 	protected AbstractMessageFormatter() {
 	}
 
+	/**
+	 * Formats a text message and appends the result to a string builder. All placeholders will be replaced with the
+	 * given arguments. This default implementation appends the result of {@link #format(String, Object[])}. Formatters
+	 * that can output directly into a string builder should override this method for avoiding intermediate strings.
+	 *
+	 * @param message
+	 *            Text message with placeholders
+	 * @param arguments
+	 *            Replacements for placeholders
+	 * @param builder
+	 *            Target for the formatted text message
+	 */
+	public void format(final String message, final Object[] arguments, final StringBuilder builder) {
+		builder.append(format(message, arguments));
+	}
+
 	/**
 	 * Resolves potential lazy arguments of an array.
 	 *
@@ -17,9 +17,14 @@ import java.text.ChoiceFormat;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.Format;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
@@ -31,11 +36,21 @@ import org.tinylog.provider.InternalLogger;
  * Unlike {@link LegacyMessageFormatter}, choice format and decimal format compatible patterns can be used in
  * placeholders, and curly brackets can be escaped by a backslash.
  * </p>
+ *
+ * <p>
+ * Text messages with placeholders are parsed only once into templates of literal texts and placeholders. As soon as the
+ * cache of templates is full, further text messages are no longer cached, but formatted in a single parsing pass
+ * without compiling a template. Thus, text messages with dynamic content cannot displace already cached templates.
+ * Format objects for patterns of placeholders are shared via a small pool, as they are not thread-safe.
+ * </p>
  */
 public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 
+	private static final int MAX_CACHED_TEMPLATES = 1024;
+
 	private final DecimalFormatSymbols symbols;
 	private final boolean escape;
+	private final ConcurrentMap<String, Template> templates;
 
 	/**
 	 * @param locale
@@ -46,11 +61,183 @@ public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 	public AdvancedMessageFormatter(final Locale locale, final boolean escape) {
 		this.symbols = new DecimalFormatSymbols(locale);
 		this.escape = escape;
+		this.templates = new ConcurrentHashMap<String, Template>();
 	}
 
 	@Override
 	public String format(final String message, final Object[] arguments) {
-		return format(message, Arrays.asList(arguments).iterator());
+		StringBuilder builder = new StringBuilder(message.length() + ADDITIONAL_STRING_BUILDER_CAPACITY);
+		format(message, arguments, builder);
+		return builder.toString();
+	}
+
+	@Override
+	public void format(final String message, final Object[] arguments, final StringBuilder builder) {
+		Template template = getTemplate(message);
+		if (template == null || arguments.length < template.minimumArguments) {
+			format(message, Arrays.asList(arguments).iterator(), builder);
+		} else {
+			render(template, arguments, builder);
+		}
+	}
+
+	/**
+	 * Gets the cached template for a text message. If there is no cached template yet, the text message will be
+	 * compiled and the new template will be cached, if the cache is not full yet. Text messages without placeholders
+	 * are never cached.
+	 *
+	 * @param message
+	 *            Text message with placeholders
+	 * @return Template of the passed text message or {@code null} if the text message doesn't contain any placeholders
+	 *         or the cache is full
+	 */
+	private Template getTemplate(final String message) {
+		Template template = templates.get(message);
+
+		if (template == null && templates.size() < MAX_CACHED_TEMPLATES && message.indexOf('{') >= 0) {
+			template = compile(message);
+			if (template.patterns.length == 0) {
+				return null;
+			}
+
+			templates.putIfAbsent(message, template);
+		}
+
+		return template;
+	}
+
+	/**
+	 * Parses a text message into a template. The parsing follows the same rules as
+	 * {@link #format(String, Iterator, StringBuilder)}, assuming that there are enough arguments for all placeholders.
+	 *
+	 * @param message
+	 *            Text message with placeholders
+	 * @return Compiled template
+	 */
+	private Template compile(final String message) {
+		int length = message.length();
+
+		List<String> literals = new ArrayList<String>();
+		List<String> patterns = new ArrayList<String>();
+		StringBuilder text = new StringBuilder(length);
+		int minimumArguments = 0;
+
+		int openingTickIndex = -1;
+		int openingCurlyBracketIndex = -1;
+		int openingCurlyBracketsCount = 0;
+
+		for (int index = 0; index < length; ++index) {
+			char character = message.charAt(index);
+			if (escape && character == '\'' && index + 1 < length && openingCurlyBracketsCount == 0) {
+				if (message.charAt(index + 1) == '\'') {
+					text.append('\'');
+					index += 1;
+				} else {
+					openingTickIndex = openingTickIndex < 0 ? text.length() : -1;
+				}
+			} else if (character == '{' && index + 1 < length && openingTickIndex < 0) {
+				minimumArguments = Math.max(minimumArguments, patterns.size() + 1);
+				if (openingCurlyBracketsCount++ == 0) {
+					openingCurlyBracketIndex = text.length();
+				} else {
+					text.append(character);
+				}
+			} else if (character == '}' && openingCurlyBracketsCount > 0 && openingTickIndex < 0) {
+				if (--openingCurlyBracketsCount == 0) {
+					patterns.add(text.substring(openingCurlyBracketIndex));
+					text.setLength(openingCurlyBracketIndex);
+					literals.add(text.toString());
+					text.setLength(0);
+				} else {
+					text.append(character);
+				}
+			} else {
+				text.append(character);
+			}
+		}
+
+		if (openingCurlyBracketsCount > 0) {
+			text.insert(openingCurlyBracketIndex, '{');
+		}
+
+		if (openingTickIndex >= 0) {
+			text.insert(openingTickIndex, '\'');
+		}
+
+		literals.add(text.toString());
+
+		FormatPool[] formats = new FormatPool[patterns.size()];
+		for (int i = 0; i < formats.length; ++i) {
+			formats[i] = compileFormat(patterns.get(i));
+		}
+
+		return new Template(literals.toArray(new String[literals.size()]), patterns.toArray(new String[patterns.size()]),
+			formats, minimumArguments);
+	}
+
+	/**
+	 * Creates the pool of format objects for a pattern of a placeholder. This is not possible for empty patterns,
+	 * invalid patterns, and choice format patterns with nested placeholders, as these depend on the argument.
+	 *
+	 * @param pattern
+	 *            Pattern of placeholder
+	 * @return Pool of format objects or {@code null} if the pattern cannot be compiled in advance
+	 */
+	private FormatPool compileFormat(final String pattern) {
+		if (pattern.length() == 0) {
+			return null;
+		}
+
+		try {
+			if (pattern.indexOf('|') != -1) {
+				int start = pattern.indexOf('{');
+				if (start >= 0 && start < pattern.lastIndexOf('}')) {
+					return null;
+				} else {
+					return new FormatPool(new ChoiceFormat(pattern));
+				}
+			} else {
+				return new FormatPool(new DecimalFormat(pattern, symbols));
+			}
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Renders a compiled template and appends the result to a string builder. All placeholders will be replaced with
+	 * the given arguments.
+	 *
+	 * @param template
+	 *            Compiled template of a text message
+	 * @param arguments
+	 *            Replacements for placeholders
+	 * @param builder
+	 *            Target for the formatted text message
+	 */
+	private void render(final Template template, final Object[] arguments, final StringBuilder builder) {
+		String[] literals = template.literals;
+		String[] patterns = template.patterns;
+		FormatPool[] formats = template.formats;
+
+		builder.append(literals[0]);
+
+		for (int i = 0; i < patterns.length; ++i) {
+			Object argument = resolve(arguments[i]);
+			if (formats[i] != null) {
+				Format format = formats[i].acquire();
+				try {
+					builder.append(format(format, patterns[i], argument));
+				} finally {
+					formats[i].release(format);
+				}
+			} else if (patterns[i].length() == 0) {
+				builder.append(argument);
+			} else {
+				builder.append(format(patterns[i], argument));
+			}
+			builder.append(literals[i + 1]);
+		}
 	}
 
 	/**
@@ -63,9 +250,24 @@ public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 	 * @return Formatted text message
 	 */
 	private String format(final String message, final Iterator<Object> arguments) {
-		int length = message.length();
+		StringBuilder builder = new StringBuilder(message.length() + ADDITIONAL_STRING_BUILDER_CAPACITY);
+		format(message, arguments, builder);
+		return builder.toString();
+	}
 
-		StringBuilder builder = new StringBuilder(length + ADDITIONAL_STRING_BUILDER_CAPACITY);
+	/**
+	 * Formats a text message and appends the result to a string builder. All placeholders will be replaced with the
+	 * given arguments.
+	 *
+	 * @param message
+	 *            Text message with placeholders
+	 * @param arguments
+	 *            Replacements for placeholders
+	 * @param builder
+	 *            Target for the formatted text message
+	 */
+	private void format(final String message, final Iterator<Object> arguments, final StringBuilder builder) {
+		int length = message.length();
 
 		int openingTickIndex = -1;
 		int openingCurlyBracketIndex = -1;
@@ -111,8 +313,6 @@ public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 		if (openingTickIndex >= 0) {
 			builder.insert(openingTickIndex, '\'');
 		}
-
-		return builder.toString();
 	}
 
 	/**
@@ -126,7 +326,27 @@ public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 	 */
 	private String format(final String pattern, final Object argument) {
 		try {
-			return getFormatter(pattern, argument).format(argument);
+			return format(getFormatter(pattern, argument), pattern, argument);
+		} catch (IllegalArgumentException ex) {
+			InternalLogger.log(Level.WARN, "Illegal argument '" + argument + "' for pattern '" + pattern + "'");
+			return String.valueOf(argument);
+		}
+	}
+
+	/**
+	 * Formats an argument by a format object of a placeholder.
+	 *
+	 * @param format
+	 *            Format object for the pattern of the placeholder
+	 * @param pattern
+	 *            Pattern of placeholder
+	 * @param argument
+	 *            Replacement for placeholder
+	 * @return Formatted argument
+	 */
+	private static String format(final Format format, final String pattern, final Object argument) {
+		try {
+			return format.format(argument);
 		} catch (IllegalArgumentException ex) {
 			InternalLogger.log(Level.WARN, "Illegal argument '" + argument + "' for pattern '" + pattern + "'");
 			return String.valueOf(argument);
@@ -156,4 +376,88 @@ public class AdvancedMessageFormatter extends AbstractMessageFormatter {
 		}
 	}
 
+	/**
+	 * Parsed text message, consisting of literal texts and placeholders. A template with n placeholders has n + 1
+	 * literal texts, as each placeholder is surrounded by literal texts, which can be empty.
+	 */
+	private static final class Template {
+
+		private final String[] literals;
+		private final String[] patterns;
+		private final FormatPool[] formats;
+		private final int minimumArguments;
+
+		/**
+		 * @param literals
+		 *            Literal texts before, between, and after the placeholders
+		 * @param patterns
+		 *            Patterns of the placeholders
+		 * @param formats
+		 *            Compiled format objects for the patterns of placeholders
+		 * @param minimumArguments
+		 *            Minimum number of arguments, for which the parsing of this template is valid
+		 */
+		private Template(final String[] literals, final String[] patterns, final FormatPool[] formats,
+			final int minimumArguments) {
+			this.literals = literals;
+			this.patterns = patterns;
+			this.formats = formats;
+			this.minimumArguments = minimumArguments;
+		}
+
+	}
+
+	/**
+	 * Small pool of copies of a format object, as format objects are not thread-safe. A thread takes a copy from the pool
+	 * for formatting and returns it afterwards. If the pool is empty, a new copy is created. Returned copies are dropped,
+	 * if the pool is full.
+	 */
+	private static final class FormatPool {
+
+		private static final int SIZE = 4;
+
+		private final Format prototype;
+		private final AtomicReferenceArray<Format> copies;
+
+		/**
+		 * @param prototype
+		 *            Format object to copy
+		 */
+		private FormatPool(final Format prototype) {
+			this.prototype = prototype;
+			this.copies = new AtomicReferenceArray<Format>(SIZE);
+		}
+
+		/**
+		 * Takes a copy of the format object from the pool or creates a new one, if the pool is empty.
+		 *
+		 * @return Format object for exclusive use
+		 */
+		private Format acquire() {
+			for (int i = 0; i < SIZE; ++i) {
+				Format format = copies.getAndSet(i, null);
+				if (format != null) {
+					return format;
+				}
+			}
+
+			return (Format) prototype.clone();
+		}
+
+		/**
+		 * Returns a copy of the format object to the pool.
+		 *
+		 * @param format
+		 *            Format object that has been taken via {@link #acquire()}
+		 */
+		private void release(final Format format) {
+			for (int i = 0; i < SIZE; ++i) {
+				if (copies.compareAndSet(i, null, format)) {
+					return;
+				}
+			}
+		}
+
+	}
+
 }
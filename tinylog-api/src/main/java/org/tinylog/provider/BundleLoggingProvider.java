@@ -24,7 +24,7 @@ import org.tinylog.format.MessageFormatter;
 /**
  * Logging provider that combines multiple logging providers into one.
  */
-final class BundleLoggingProvider implements LoggingProvider {
+final class BundleLoggingProvider implements LocationAwareLoggingProvider {
 
 	private final LoggingProvider[] loggingProviders;
 	private final ContextProvider contextProvider;
@@ -94,6 +94,20 @@ final class BundleLoggingProvider implements LoggingProvider {
 		}
 	}
 
+	@Override
+	public void log(final StackTraceElement location, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		for (int i = 0; i < loggingProviders.length; ++i) {
+			LoggingProvider provider = loggingProviders[i];
+			if (provider instanceof LocationAwareLoggingProvider) {
+				((LocationAwareLoggingProvider) provider).log(location, tag, level, exception, formatter, obj, arguments);
+			} else {
+				// The caller of this bundle will be extracted from the stack trace as fallback
+				provider.log(BundleLoggingProvider.class.getName(), tag, level, exception, formatter, obj, arguments);
+			}
+		}
+	}
+
 	@Override
 	public void shutdown() throws InterruptedException {
 		for (int i = 0; i < loggingProviders.length; ++i) {
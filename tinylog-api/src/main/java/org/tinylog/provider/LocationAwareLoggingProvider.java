@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.provider;
+
+import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
+
+/**
+ * Optional extension of {@link LoggingProvider} for accepting log entries with a precomputed location.
+ *
+ * <p>
+ * Logging providers are not required to implement this interface. Logging APIs have to check whether a logging
+ * provider is an instance of this interface before passing a precomputed location and fall back to
+ * {@link LoggingProvider#log(String, String, Level, Throwable, MessageFormatter, Object, Object...)} otherwise.
+ * </p>
+ */
+public interface LocationAwareLoggingProvider extends LoggingProvider {
+
+	/**
+	 * Provides a regular log entry with a precomputed location. The passed stack trace element will be used as source
+	 * of class name, method name, file name, and line number. Therefore, the logging provider does not need to extract
+	 * the caller from the stack trace. This is intended for logging APIs that can determine the location of a log
+	 * statement in advance, for example at compile time.
+	 *
+	 * @param location
+	 *            Location of the log statement
+	 * @param tag
+	 *            Tag of log entry or {@code null} if untagged
+	 * @param level
+	 *            Severity level of log entry
+	 * @param exception
+	 *            Exception to log or {@code null}
+	 * @param formatter
+	 *            Formatter for text message, only required if there are any arguments to insert
+	 * @param obj
+	 *            Message to log or {@code null}
+	 * @param arguments
+	 *            Arguments for message or {@code null}
+	 */
+	void log(StackTraceElement location, String tag, Level level, Throwable exception, MessageFormatter formatter,
+		Object obj, Object... arguments);
+
+}
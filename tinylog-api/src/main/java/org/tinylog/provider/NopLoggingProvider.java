@@ -19,7 +19,7 @@ import org.tinylog.format.MessageFormatter;
 /**
  * Logging provider implementation that does nothing. All log entries will be ignored.
  */
-public final class NopLoggingProvider implements LoggingProvider {
+public final class NopLoggingProvider implements LocationAwareLoggingProvider {
 
 	private static final ContextProvider contextProvider = new NopContextProvider();
 
@@ -59,6 +59,12 @@ public final class NopLoggingProvider implements LoggingProvider {
 		// Ignore
 	}
 
+	@Override
+	public void log(final StackTraceElement location, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		// Ignore
+	}
+
 	@Override
 	public void shutdown() {
 		// Ignore
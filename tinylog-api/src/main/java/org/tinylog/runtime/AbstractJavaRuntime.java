@@ -27,4 +27,14 @@ abstract class AbstractJavaRuntime implements RuntimeDialect {
 		return "console";
 	}
 
+	@Override
+	public long getStackTraceElementCacheHits() {
+		return 0;
+	}
+
+	@Override
+	public long getStackTraceElementCacheMisses() {
+		return 0;
+	}
+
 }
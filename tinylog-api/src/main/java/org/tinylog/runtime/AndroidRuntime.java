@@ -30,6 +30,7 @@ import org.tinylog.provider.InternalLogger;
 final class AndroidRuntime implements RuntimeDialect {
 
 	private static final int STACK_TRACE_SIZE = 10;
+	private static final long MILLISECOND_IN_NANOS = 1000000;
 
 	private static final Timestamp startTime = new LegacyTimestamp();
 
@@ -93,6 +94,36 @@ final class AndroidRuntime implements RuntimeDialect {
 		return findStackTraceElement(loggerClassName, new Throwable().getStackTrace());
 	}
 
+	@Override
+	public long getStackTraceElementCacheHits() {
+		return 0;
+	}
+
+	@Override
+	public long getStackTraceElementCacheMisses() {
+		return 0;
+	}
+
+	@Override
+	public Object getCallerStackFrame(final int depth) {
+		return getCallerStackTraceElement(depth + 1);
+	}
+
+	@Override
+	public Object getCallerStackFrame(final String loggerClassName) {
+		return getCallerStackTraceElement(loggerClassName);
+	}
+
+	@Override
+	public StackTraceElement resolveStackFrame(final Object frame) {
+		return (StackTraceElement) frame;
+	}
+
+	@Override
+	public long getCurrentTimeNanos() {
+		return System.currentTimeMillis() * MILLISECOND_IN_NANOS;
+	}
+
 	@Override
 	public Timestamp createTimestamp() {
 		return new LegacyTimestamp();
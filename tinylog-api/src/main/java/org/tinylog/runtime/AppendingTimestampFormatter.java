@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.runtime;
+
+/**
+ * Optional extension of {@link TimestampFormatter} for appending formatted timestamps directly to a string builder.
+ *
+ * <p>
+ * Timestamp formatters are not required to implement this interface. Callers have to check whether a timestamp
+ * formatter is an instance of this interface and fall back to {@link TimestampFormatter#format(Timestamp)} otherwise.
+ * </p>
+ */
+public interface AppendingTimestampFormatter extends TimestampFormatter {
+
+	/**
+	 * Formats a timestamp and appends the formatted timestamp to a string builder.
+	 *
+	 * @param timestamp
+	 *            Timestamp to format
+	 * @param builder
+	 *            Target for appending the formatted timestamp
+	 */
+	void format(Timestamp timestamp, StringBuilder builder);
+
+}
@@ -27,6 +27,8 @@ import org.tinylog.provider.InternalLogger;
  */
 public final class LegacyJavaRuntime extends AbstractJavaRuntime {
 
+	private static final long MILLISECOND_IN_NANOS = 1000000;
+
 	private static final Timestamp startTime = new LegacyTimestamp(ManagementFactory.getRuntimeMXBean().getStartTime());
 
 	private final boolean hasSunReflection;
@@ -114,6 +116,26 @@ public final class LegacyJavaRuntime extends AbstractJavaRuntime {
 		}
 	}
 
+	@Override
+	public Object getCallerStackFrame(final int depth) {
+		return getCallerStackTraceElement(depth + 1);
+	}
+
+	@Override
+	public Object getCallerStackFrame(final String loggerClassName) {
+		return getCallerStackTraceElement(loggerClassName);
+	}
+
+	@Override
+	public StackTraceElement resolveStackFrame(final Object frame) {
+		return (StackTraceElement) frame;
+	}
+
+	@Override
+	public long getCurrentTimeNanos() {
+		return System.currentTimeMillis() * MILLISECOND_IN_NANOS;
+	}
+
 	@Override
 	public Timestamp createTimestamp() {
 		return new LegacyTimestamp();
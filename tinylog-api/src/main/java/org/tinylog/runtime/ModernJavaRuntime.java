@@ -13,10 +13,16 @@
 
 package org.tinylog.runtime;
 
+import java.lang.StackWalker.Option;
 import java.lang.StackWalker.StackFrame;
 import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.time.Instant;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -30,7 +36,16 @@ import org.tinylog.provider.InternalLogger;
 @IgnoreJRERequirement
 final class ModernJavaRuntime extends AbstractJavaRuntime {
 
-	private static final ClassContextSecurityManager securityManager = new ClassContextSecurityManager();
+	private static final long SECOND_IN_NANOS = 1000000000;
+
+	private static final StackWalker classWalker = createClassWalker();
+	private static final boolean classReferencesRetained = classWalker != null;
+
+	private static final Method descriptorGetter = getDescriptorGetter();
+	private static final boolean cachingSupported = classReferencesRetained && descriptorGetter != null;
+	private static final ClassValue<ConcurrentMap<CallSite, StackTraceElement>> callSites = new CallSiteMapValue();
+	private static final LongAdder cacheHits = new LongAdder();
+	private static final LongAdder cacheMisses = new LongAdder();
 
 	private static final Timestamp startTime = new PreciseTimestamp(
 		ManagementFactory.getRuntimeMXBean().getStartTime(),
@@ -60,41 +75,57 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 
 	@Override
 	public String getCallerClassName(final int depth) {
-		Class<?>[] classes = securityManager.getClassContext();
-		return classes.length > depth + 1 ? classes[depth + 1].getName() : null;
+		StackFrame frame = getClassWalker().walk(new FixedStackFrameExtractor(depth));
+		return frame == null ? null : getClassName(frame);
 	}
 
 	@Override
 	public String getCallerClassName(final String loggerClassName) {
-		Class<?>[] classes = securityManager.getClassContext();
-		int index = 0;
+		StackFrame frame = getClassWalker().walk(new DynamicStackFrameExtractor(loggerClassName));
+		return frame == null ? null : getClassName(frame);
+	}
 
-		while (index < classes.length) {
-			if (loggerClassName.equals(classes[index++].getName())) {
-				break;
-			}
-		}
+	@Override
+	public StackTraceElement getCallerStackTraceElement(final int depth) {
+		StackFrame frame = getClassWalker().walk(new FixedStackFrameExtractor(depth));
+		return frame == null ? null : getStackTraceElement(frame);
+	}
 
-		while (index < classes.length) {
-			String className = classes[index++].getName();
-			if (!loggerClassName.equals(className)) {
-				return className;
-			}
-		}
+	@Override
+	public StackTraceElement getCallerStackTraceElement(final String loggerClassName) {
+		StackFrame frame = getClassWalker().walk(new DynamicStackFrameExtractor(loggerClassName));
+		return frame == null ? null : getStackTraceElement(frame);
+	}
 
-		return null;
+	@Override
+	public Object getCallerStackFrame(final int depth) {
+		return getClassWalker().walk(new FixedStackFrameExtractor(depth));
 	}
 
 	@Override
-	public StackTraceElement getCallerStackTraceElement(final int depth) {
-		StackFrame frame = StackWalker.getInstance().walk(new FixedStackFrameExtractor(depth));
-		return frame == null ? null : frame.toStackTraceElement();
+	public Object getCallerStackFrame(final String loggerClassName) {
+		return getClassWalker().walk(new DynamicStackFrameExtractor(loggerClassName));
 	}
 
 	@Override
-	public StackTraceElement getCallerStackTraceElement(final String loggerClassName) {
-		StackFrame frame = StackWalker.getInstance().walk(new DynamicStackFrameExtractor(loggerClassName));
-		return frame == null ? null : frame.toStackTraceElement();
+	public StackTraceElement resolveStackFrame(final Object frame) {
+		return getStackTraceElement((StackFrame) frame);
+	}
+
+	@Override
+	public long getStackTraceElementCacheHits() {
+		return cacheHits.sum();
+	}
+
+	@Override
+	public long getStackTraceElementCacheMisses() {
+		return cacheMisses.sum();
+	}
+
+	@Override
+	public long getCurrentTimeNanos() {
+		Instant now = Instant.now(); // Can be scalar replaced by the JIT compiler, since it does not escape
+		return now.getEpochSecond() * SECOND_IN_NANOS + now.getNano();
 	}
 
 	@Override
@@ -107,6 +138,89 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 		return new PreciseTimestampFormatter(pattern, locale);
 	}
 
+	/**
+	 * Creates a stack walker that retains the class references of stack frames.
+	 *
+	 * @return Stack walker with class references or {@code null} if not permitted by an installed security manager
+	 */
+	private static StackWalker createClassWalker() {
+		try {
+			return StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+		} catch (SecurityException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the stack walker for resolving caller classes. The stack walker with class references will be used if
+	 * available. Otherwise, a stack walker without class references will be returned as fallback.
+	 *
+	 * @return Stack walker for resolving caller classes
+	 */
+	private static StackWalker getClassWalker() {
+		return classReferencesRetained ? classWalker : StackWalker.getInstance();
+	}
+
+	/**
+	 * Gets the fully-qualified class name of a stack frame from {@link #getClassWalker()}.
+	 *
+	 * @param frame
+	 *            Stack frame
+	 * @return Fully-qualified class name
+	 */
+	private static String getClassName(final StackFrame frame) {
+		return classReferencesRetained ? frame.getDeclaringClass().getName() : frame.getClassName();
+	}
+
+	/**
+	 * Gets the method {@code StackFrame.getDescriptor()}, which is available since Java 10.
+	 *
+	 * @return Method or {@code null} if not available
+	 */
+	private static Method getDescriptorGetter() {
+		try {
+			return StackFrame.class.getMethod("getDescriptor");
+		} catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the stack trace element for a stack frame from {@link #getClassWalker()}. Stack trace elements are cached
+	 * per call site, if supported. Therefore, repeated calls from the same call site return the same stack trace
+	 * element with an already normalized class name.
+	 *
+	 * @param frame
+	 *            Stack frame
+	 * @return Stack trace element with normalized class name
+	 */
+	private static StackTraceElement getStackTraceElement(final StackFrame frame) {
+		if (!cachingSupported) {
+			return frame.toStackTraceElement();
+		}
+
+		String descriptor;
+		try {
+			descriptor = (String) descriptorGetter.invoke(frame);
+		} catch (ReflectiveOperationException ex) {
+			return frame.toStackTraceElement();
+		}
+
+		ConcurrentMap<CallSite, StackTraceElement> elements = callSites.get(frame.getDeclaringClass());
+		CallSite callSite = new CallSite(frame.getMethodName(), descriptor, frame.getByteCodeIndex());
+		StackTraceElement element = elements.get(callSite);
+
+		if (element == null) {
+			cacheMisses.increment();
+			element = RuntimeProvider.normalizeClassName(frame.toStackTraceElement());
+			elements.put(callSite, element);
+		} else {
+			cacheHits.increment();
+		}
+
+		return element;
+	}
+
 	/**
 	 * Gets the process handle of the current process.
 	 *
@@ -122,17 +236,62 @@ final class ModernJavaRuntime extends AbstractJavaRuntime {
 	}
 
 	/**
-	 * Security manager with accessible {@link SecurityManager#getClassContext()}.
+	 * Identity of a call site within a class.
 	 */
-	private static final class ClassContextSecurityManager extends SecurityManager {
+	private static final class CallSite {
+
+		private static final int HASH_MULTIPLIER = 31;
+
+		private final String methodName;
+		private final String descriptor;
+		private final int byteCodeIndex;
+
+		/**
+		 * @param methodName
+		 *            Name of the method that contains the call site
+		 * @param descriptor
+		 *            Descriptor of the method that contains the call site
+		 * @param byteCodeIndex
+		 *            Index of the call instruction in the byte code of the method
+		 */
+		private CallSite(final String methodName, final String descriptor, final int byteCodeIndex) {
+			this.methodName = methodName;
+			this.descriptor = descriptor;
+			this.byteCodeIndex = byteCodeIndex;
+		}
+
+		@Override
+		public int hashCode() {
+			return (methodName.hashCode() * HASH_MULTIPLIER + descriptor.hashCode()) * HASH_MULTIPLIER + byteCodeIndex;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj instanceof CallSite) {
+				CallSite other = (CallSite) obj;
+				return byteCodeIndex == other.byteCodeIndex && methodName.equals(other.methodName)
+					&& descriptor.equals(other.descriptor);
+			} else {
+				return false;
+			}
+		}
+
+	}
+
+	/**
+	 * Lazily created maps of cached stack trace elements per class. The maps are attached to their classes and can be
+	 * garbage collected together with them.
+	 */
+	@IgnoreJRERequirement
+	private static final class CallSiteMapValue extends ClassValue<ConcurrentMap<CallSite, StackTraceElement>> {
 
 		/** */
-		private ClassContextSecurityManager() {
+		private CallSiteMapValue() {
 		}
 
 		@Override
-		protected Class<?>[] getClassContext() {
-			return super.getClassContext();
+		protected ConcurrentMap<CallSite, StackTraceElement> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<CallSite, StackTraceElement>();
 		}
 
 	}
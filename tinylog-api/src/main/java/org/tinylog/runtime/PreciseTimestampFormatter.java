@@ -17,25 +17,36 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalUnit;
 import java.util.Locale;
 
 import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
 
 /**
- * Thread-safe formatter that based on {@link DateTimeFormatter} with nanosecond precision. The last formatted timestamp
- * will be cached, if the formatter does neither output nanoseconds nor microseconds.
+ * Thread-safe formatter that based on {@link DateTimeFormatter} with nanosecond precision.
+ *
+ * <p>
+ * The pattern is split into the parts before and after the fraction of second. Both parts are formatted only once per
+ * second (or minute, if the pattern does not output seconds) and cached without any locking. For further timestamps
+ * within the same second, only the digits of the fraction of second have to be rendered. Patterns with multiple
+ * fractions of second, nanosecond of second, nanosecond of day, millisecond of day, or optional sections are always
+ * formatted completely by {@link DateTimeFormatter}.
+ * </p>
  */
 @IgnoreJRERequirement
-public final class PreciseTimestampFormatter implements TimestampFormatter {
+public final class PreciseTimestampFormatter implements AppendingTimestampFormatter {
+
+	private static final int MAX_FRACTION_DIGITS = 9;
+	private static final int SECONDS_PER_MINUTE = 60;
+	private static final int RADIX = 10;
 
 	private final DateTimeFormatter formatter;
-	private final TemporalUnit truncationUnit;
+	private final DateTimeFormatter prefixFormatter;
+	private final DateTimeFormatter suffixFormatter;
+	private final long secondsPerSegment;
+	private final int fractionTruncation;
+	private final int fractionDivisor;
 
-	private Instant minInstant;
-	private Instant maxInstant;
-	private String lastFormat;
+	private volatile Segment segment;
 
 	/**
 	 * @param pattern
@@ -44,20 +55,53 @@ public final class PreciseTimestampFormatter implements TimestampFormatter {
 	 *            Locale for formatting
 	 */
 	public PreciseTimestampFormatter(final String pattern, final Locale locale) {
-		formatter = DateTimeFormatter.ofPattern(pattern, locale).withZone(ZoneId.systemDefault());
-
-		if (pattern.contains("n") || pattern.contains("N") || pattern.contains("SSSS")) {
-			truncationUnit = null;
-		} else if (pattern.contains("S")) {
-			truncationUnit = ChronoUnit.MILLIS;
-		} else if (pattern.contains("s")) {
-			truncationUnit = ChronoUnit.SECONDS;
+		ZoneId zone = ZoneId.systemDefault();
+		formatter = DateTimeFormatter.ofPattern(pattern, locale).withZone(zone);
+
+		int fractionStart = -1;
+		int fractionEnd = -1;
+		boolean cacheable = true;
+		boolean seconds = false;
+		boolean quoted = false;
+
+		for (int i = 0; i < pattern.length(); ++i) {
+			char character = pattern.charAt(i);
+			if (character == '\'') {
+				quoted = !quoted;
+			} else if (!quoted) {
+				if (character == 'S') {
+					if (fractionStart < 0) {
+						fractionStart = i;
+						fractionEnd = i + 1;
+					} else if (fractionEnd == i) {
+						fractionEnd = i + 1;
+					} else {
+						cacheable = false;
+					}
+				} else if (character == 's') {
+					seconds = true;
+				} else if (character == 'n' || character == 'N' || character == 'A' || character == '[' || character == ']') {
+					cacheable = false;
+				}
+			}
+		}
+
+		int fractionDigits = fractionStart < 0 ? 0 : fractionEnd - fractionStart;
+
+		if (!cacheable || fractionDigits > MAX_FRACTION_DIGITS) {
+			prefixFormatter = null;
+			suffixFormatter = null;
+		} else if (fractionDigits == 0) {
+			prefixFormatter = formatter;
+			suffixFormatter = null;
 		} else {
-			truncationUnit = ChronoUnit.MINUTES;
+			prefixFormatter = DateTimeFormatter.ofPattern(pattern.substring(0, fractionStart), locale).withZone(zone);
+			suffixFormatter = DateTimeFormatter.ofPattern(pattern.substring(fractionEnd), locale).withZone(zone);
 		}
 
-		minInstant = Instant.MAX;
-		maxInstant = Instant.MIN;
+		secondsPerSegment = seconds || fractionDigits > 0 ? 1 : SECONDS_PER_MINUTE;
+		fractionTruncation = suffixFormatter == null ? 1 : pow10(MAX_FRACTION_DIGITS - fractionDigits);
+		fractionDivisor = suffixFormatter == null ? 0 : pow10(fractionDigits - 1);
 	}
 
 	@Override
@@ -73,25 +117,110 @@ public final class PreciseTimestampFormatter implements TimestampFormatter {
 	@Override
 	public String format(final Timestamp timestamp) {
 		Instant instant = timestamp.toInstant();
-		return truncationUnit == null ? formatter.format(instant) : format(instant);
+
+		if (prefixFormatter == null) {
+			return formatter.format(instant);
+		} else if (suffixFormatter == null) {
+			return getSegment(instant).prefix;
+		} else {
+			StringBuilder builder = new StringBuilder();
+			format(instant, builder);
+			return builder.toString();
+		}
+	}
+
+	@Override
+	public void format(final Timestamp timestamp, final StringBuilder builder) {
+		Instant instant = timestamp.toInstant();
+
+		if (prefixFormatter == null) {
+			formatter.formatTo(instant, builder);
+		} else {
+			format(instant, builder);
+		}
 	}
 
 	/**
-	 * Formats an {@link Instant}.
+	 * Formats a cacheable {@link Instant} and appends the result to a string builder.
 	 *
 	 * @param instant
 	 *            Instant to format
-	 * @return Formatted instant
+	 * @param builder
+	 *            Target for appending the formatted instant
 	 */
-	private String format(final Instant instant) {
-		synchronized (formatter) {
-			if (!instant.isBefore(maxInstant) || instant.isBefore(minInstant)) {
-				minInstant = instant.truncatedTo(truncationUnit);
-				maxInstant = minInstant.plus(1, truncationUnit);
-				lastFormat = formatter.format(instant);
+	private void format(final Instant instant, final StringBuilder builder) {
+		Segment current = getSegment(instant);
+		builder.append(current.prefix);
+
+		if (suffixFormatter != null) {
+			int fraction = instant.getNano() / fractionTruncation;
+			for (int divisor = fractionDivisor; divisor > 0; divisor /= RADIX) {
+				builder.append((char) ('0' + fraction / divisor % RADIX));
 			}
-			return lastFormat;
+			builder.append(current.suffix);
 		}
 	}
 
+	/**
+	 * Gets the cached formatted parts for the second or minute of an {@link Instant}. The cache will be updated, if it
+	 * contains another second or minute.
+	 *
+	 * @param instant
+	 *            Instant to format
+	 * @return Formatted parts before and after the fraction of second
+	 */
+	private Segment getSegment(final Instant instant) {
+		long index = Math.floorDiv(instant.getEpochSecond(), secondsPerSegment);
+		Segment current = segment;
+
+		if (current == null || current.index != index) {
+			String prefix = prefixFormatter.format(instant);
+			String suffix = suffixFormatter == null ? null : suffixFormatter.format(instant);
+			current = new Segment(index, prefix, suffix);
+			segment = current;
+		}
+
+		return current;
+	}
+
+	/**
+	 * Calculates a power of ten.
+	 *
+	 * @param exponent
+	 *            Non-negative exponent
+	 * @return Ten raised to the passed exponent
+	 */
+	private static int pow10(final int exponent) {
+		int result = 1;
+		for (int i = 0; i < exponent; ++i) {
+			result *= RADIX;
+		}
+		return result;
+	}
+
+	/**
+	 * Immutable formatted parts of a second or minute.
+	 */
+	private static final class Segment {
+
+		private final long index;
+		private final String prefix;
+		private final String suffix;
+
+		/**
+		 * @param index
+		 *            Index of the second or minute since the epoch
+		 * @param prefix
+		 *            Formatted part before the fraction of second
+		 * @param suffix
+		 *            Formatted part after the fraction of second or {@code null} if there is no fraction of second
+		 */
+		private Segment(final long index, final String prefix, final String suffix) {
+			this.index = index;
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+
+	}
+
 }
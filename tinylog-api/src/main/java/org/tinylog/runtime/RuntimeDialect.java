@@ -85,6 +85,58 @@ interface RuntimeDialect {
 	 */
 	StackTraceElement getCallerStackTraceElement(String loggerClassName);
 
+	/**
+	 * Gets a handle for the stack frame of a caller. The handle can be resolved into a stack trace element later via
+	 * {@link #resolveStackFrame(Object)}, also in another thread.
+	 *
+	 * @param depth
+	 *            Position of caller in stack trace
+	 * @return Handle for the stack frame of a caller or {@code null} if there is no caller at the passed depth
+	 */
+	Object getCallerStackFrame(int depth);
+
+	/**
+	 * Gets a handle for the stack frame of a caller. The handle can be resolved into a stack trace element later via
+	 * {@link #resolveStackFrame(Object)}, also in another thread.
+	 *
+	 * @param loggerClassName
+	 *            Logger class name that should appear before the real caller
+	 * @return Handle for the stack frame of a caller or {@code null} if the logger class is missing in stack trace
+	 */
+	Object getCallerStackFrame(String loggerClassName);
+
+	/**
+	 * Resolves a handle from {@link #getCallerStackFrame(int)} or {@link #getCallerStackFrame(String)} into a stack
+	 * trace element.
+	 *
+	 * @param frame
+	 *            Handle for a stack frame
+	 * @return Stack trace element of the stack frame
+	 */
+	StackTraceElement resolveStackFrame(Object frame);
+
+	/**
+	 * Gets the number of caller stack trace elements that have been taken from the cache of already resolved call
+	 * sites.
+	 *
+	 * @return Number of cache hits or zero, if caching is not supported
+	 */
+	long getStackTraceElementCacheHits();
+
+	/**
+	 * Gets the number of caller stack trace elements that had to be resolved, because they were not cached yet.
+	 *
+	 * @return Number of cache misses or zero, if caching is not supported
+	 */
+	long getStackTraceElementCacheMisses();
+
+	/**
+	 * Gets the current time with the highest precision that is supported by the runtime.
+	 *
+	 * @return Nanoseconds since January 1, 1970, 00:00:00 GMT
+	 */
+	long getCurrentTimeNanos();
+
 	/**
 	 * Creates a timestamp with the current date and time.
 	 *
@@ -143,6 +143,85 @@ public final class RuntimeProvider {
 		}
 	}
 
+	/**
+	 * Gets a handle for the stack frame of a caller. Getting a handle is cheaper than getting the complete stack trace
+	 * element, as source file name and line number are not resolved yet. The handle can be resolved via
+	 * {@link #resolveStackFrame(Object)} later, also in another thread.
+	 *
+	 * @param depth
+	 *            Position of caller in stack trace
+	 * @return Handle for the stack frame of a caller
+	 */
+	public static Object getCallerStackFrame(final int depth) {
+		return dialect.getCallerStackFrame(depth + 1);
+	}
+
+	/**
+	 * Gets a handle for the stack frame of a caller. Getting a handle is cheaper than getting the complete stack trace
+	 * element, as source file name and line number are not resolved yet. The handle can be resolved via
+	 * {@link #resolveStackFrame(Object)} later, also in another thread.
+	 *
+	 * @param loggerClassName
+	 *            Logger class name that should appear before the real caller
+	 * @return Handle for the stack frame of a caller
+	 */
+	public static Object getCallerStackFrame(final String loggerClassName) {
+		Object frame = dialect.getCallerStackFrame(loggerClassName);
+
+		if (frame == null) {
+			InternalLogger.log(Level.ERROR, "Logger class \"" + loggerClassName + "\" is missing in stack trace");
+			return new StackTraceElement("<unknown class>", "<unknown method>", "<unknown file>", -1);
+		} else {
+			return frame;
+		}
+	}
+
+	/**
+	 * Resolves a handle from {@link #getCallerStackFrame(int)} or {@link #getCallerStackFrame(String)} into a
+	 * complete stack trace element. Any anonymous part will be stripped from class name.
+	 *
+	 * @param frame
+	 *            Handle for a stack frame
+	 * @return Stack trace element of the stack frame
+	 */
+	public static StackTraceElement resolveStackFrame(final Object frame) {
+		if (frame instanceof StackTraceElement) {
+			return normalizeClassName((StackTraceElement) frame);
+		} else {
+			return normalizeClassName(dialect.resolveStackFrame(frame));
+		}
+	}
+
+	/**
+	 * Gets the number of caller stack trace elements that have been taken from the cache of already resolved call
+	 * sites. Together with {@link #getStackTraceElementCacheMisses()}, this number can be used for calculating the hit
+	 * rate of the cache.
+	 *
+	 * @return Number of cache hits or zero, if caching is not supported by the current VM
+	 */
+	public static long getStackTraceElementCacheHits() {
+		return dialect.getStackTraceElementCacheHits();
+	}
+
+	/**
+	 * Gets the number of caller stack trace elements that had to be resolved, because they were not cached yet.
+	 *
+	 * @return Number of cache misses or zero, if caching is not supported by the current VM
+	 */
+	public static long getStackTraceElementCacheMisses() {
+		return dialect.getStackTraceElementCacheMisses();
+	}
+
+	/**
+	 * Gets the current time with the highest precision that is supported by the runtime. On Java 9 and later, the
+	 * precision is the same as for {@link #createTimestamp()}.
+	 *
+	 * @return Nanoseconds since January 1, 1970, 00:00:00 GMT
+	 */
+	public static long getCurrentTimeNanos() {
+		return dialect.getCurrentTimeNanos();
+	}
+
 	/**
 	 * Creates a timestamp with the current date and time.
 	 *
@@ -234,14 +313,19 @@ public final class RuntimeProvider {
 	 *            Original stack trace element
 	 * @return New or same stack trace element with an human-readable class name without any anonymous part
 	 */
-	private static StackTraceElement normalizeClassName(final StackTraceElement element) {
+	static StackTraceElement normalizeClassName(final StackTraceElement element) {
 		String className = element.getClassName();
 		int dollarIndex = className.indexOf("$");
 		if (dollarIndex == -1) {
 			return element;
 		} else {
-			className = stripAnonymousPart(className);
-			return new StackTraceElement(className, element.getMethodName(), element.getFileName(), element.getLineNumber());
+			String strippedClassName = stripAnonymousPart(className);
+			if (strippedClassName.length() == className.length()) {
+				return element;
+			} else {
+				return new StackTraceElement(strippedClassName, element.getMethodName(), element.getFileName(),
+					element.getLineNumber());
+			}
 		}
 	}
 
@@ -184,6 +184,44 @@ public final class LoggerTest {
 			}
 		}
 
+		/**
+		 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#TRACE
+		 * TRACE} level.
+		 */
+		@Test
+		public void traceMessageAndMultipleArguments() {
+			Logger.trace("{}, {}, {} and {}", "a", "b", "c", "d");
+
+			if (levelConfiguration.isTraceEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+					eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
+		/**
+		 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+		 * {@link Level#TRACE TRACE} level.
+		 */
+		@Test
+		public void traceMessageAndPrimitiveArguments() {
+			Logger.trace("The number is {}", 42);
+			Logger.trace("The ratio is {}", 0.5f);
+			Logger.trace("The char is {}", 'c');
+
+			if (levelConfiguration.isTraceEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The number is {}"), eq(42));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The ratio is {}"), eq(0.5f));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The char is {}"), eq('c'));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
 		/**
 		 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 		 * {@link Level#TRACE TRACE} level.
@@ -348,6 +386,44 @@ public final class LoggerTest {
 			}
 		}
 
+		/**
+		 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#DEBUG
+		 * DEBUG} level.
+		 */
+		@Test
+		public void debugMessageAndMultipleArguments() {
+			Logger.debug("{}, {}, {} and {}", "a", "b", "c", "d");
+
+			if (levelConfiguration.isDebugEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+					eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
+		/**
+		 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+		 * {@link Level#DEBUG DEBUG} level.
+		 */
+		@Test
+		public void debugMessageAndPrimitiveArguments() {
+			Logger.debug("The number is {}", 42);
+			Logger.debug("The ratio is {}", 0.5f);
+			Logger.debug("The char is {}", 'c');
+
+			if (levelConfiguration.isDebugEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The number is {}"), eq(42));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The ratio is {}"), eq(0.5f));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The char is {}"), eq('c'));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
 		/**
 		 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 		 * {@link Level#DEBUG DEBUG} level.
@@ -512,6 +588,44 @@ public final class LoggerTest {
 			}
 		}
 
+		/**
+		 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#INFO
+		 * INFO} level.
+		 */
+		@Test
+		public void infoMessageAndMultipleArguments() {
+			Logger.info("{}, {}, {} and {}", "a", "b", "c", "d");
+
+			if (levelConfiguration.isInfoEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+					eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
+		/**
+		 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+		 * {@link Level#INFO INFO} level.
+		 */
+		@Test
+		public void infoMessageAndPrimitiveArguments() {
+			Logger.info("The number is {}", 42);
+			Logger.info("The ratio is {}", 0.5f);
+			Logger.info("The char is {}", 'c');
+
+			if (levelConfiguration.isInfoEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The number is {}"), eq(42));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The ratio is {}"), eq(0.5f));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The char is {}"), eq('c'));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
 		/**
 		 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 		 * {@link Level#INFO INFO} level.
@@ -676,6 +790,44 @@ public final class LoggerTest {
 			}
 		}
 
+		/**
+		 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#WARN
+		 * WARN} level.
+		 */
+		@Test
+		public void warnMessageAndMultipleArguments() {
+			Logger.warn("{}, {}, {} and {}", "a", "b", "c", "d");
+
+			if (levelConfiguration.isWarnEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+					eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
+		/**
+		 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+		 * {@link Level#WARN WARN} level.
+		 */
+		@Test
+		public void warnMessageAndPrimitiveArguments() {
+			Logger.warn("The number is {}", 42);
+			Logger.warn("The ratio is {}", 0.5f);
+			Logger.warn("The char is {}", 'c');
+
+			if (levelConfiguration.isWarnEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The number is {}"), eq(42));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The ratio is {}"), eq(0.5f));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The char is {}"), eq('c'));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
 		/**
 		 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 		 * {@link Level#WARN WARN} level.
@@ -840,6 +992,44 @@ public final class LoggerTest {
 			}
 		}
 
+		/**
+		 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#ERROR
+		 * ERROR} level.
+		 */
+		@Test
+		public void errorMessageAndMultipleArguments() {
+			Logger.error("{}, {}, {} and {}", "a", "b", "c", "d");
+
+			if (levelConfiguration.isErrorEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+					eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
+		/**
+		 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+		 * {@link Level#ERROR ERROR} level.
+		 */
+		@Test
+		public void errorMessageAndPrimitiveArguments() {
+			Logger.error("The number is {}", 42);
+			Logger.error("The ratio is {}", 0.5f);
+			Logger.error("The char is {}", 'c');
+
+			if (levelConfiguration.isErrorEnabled()) {
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The number is {}"), eq(42));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The ratio is {}"), eq(0.5f));
+				verify(loggingProvider).log(eq(2), isNull(), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+					eq("The char is {}"), eq('c'));
+			} else {
+				verify(loggingProvider, never()).log(anyInt(), anyString(), any(), any(), any(), any(), any());
+			}
+		}
+
 		/**
 		 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 		 * {@link Level#ERROR ERROR} level.
@@ -203,6 +203,62 @@ public final class TaggedLoggerTest {
 		}
 	}
 
+	/**
+	 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#TRACE
+	 * TRACE} level.
+	 */
+	@Test
+	public void traceMessageAndMultipleArguments() {
+		logger.trace("{}, {}, {} and {}", "a", "b", "c", "d");
+
+		if (tag1Configuration.isTraceEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isTraceEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+	 * {@link Level#TRACE TRACE} level.
+	 */
+	@Test
+	public void traceMessageAndPrimitiveArguments() {
+		logger.trace("The number is {}", 42);
+		logger.trace("The ratio is {}", 0.5f);
+		logger.trace("The char is {}", 'c');
+
+		if (tag1Configuration.isTraceEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isTraceEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.TRACE), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
 	/**
 	 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 	 * {@link Level#TRACE TRACE} level.
@@ -429,6 +485,62 @@ public final class TaggedLoggerTest {
 		}
 	}
 
+	/**
+	 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#DEBUG
+	 * DEBUG} level.
+	 */
+	@Test
+	public void debugMessageAndMultipleArguments() {
+		logger.debug("{}, {}, {} and {}", "a", "b", "c", "d");
+
+		if (tag1Configuration.isDebugEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isDebugEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+	 * {@link Level#DEBUG DEBUG} level.
+	 */
+	@Test
+	public void debugMessageAndPrimitiveArguments() {
+		logger.debug("The number is {}", 42);
+		logger.debug("The ratio is {}", 0.5f);
+		logger.debug("The char is {}", 'c');
+
+		if (tag1Configuration.isDebugEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isDebugEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.DEBUG), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
 	/**
 	 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 	 * {@link Level#DEBUG DEBUG} level.
@@ -655,6 +767,62 @@ public final class TaggedLoggerTest {
 		}
 	}
 
+	/**
+	 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#INFO
+	 * INFO} level.
+	 */
+	@Test
+	public void infoMessageAndMultipleArguments() {
+		logger.info("{}, {}, {} and {}", "a", "b", "c", "d");
+
+		if (tag1Configuration.isInfoEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isInfoEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+	 * {@link Level#INFO INFO} level.
+	 */
+	@Test
+	public void infoMessageAndPrimitiveArguments() {
+		logger.info("The number is {}", 42);
+		logger.info("The ratio is {}", 0.5f);
+		logger.info("The char is {}", 'c');
+
+		if (tag1Configuration.isInfoEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isInfoEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.INFO), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
 	/**
 	 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at {@link Level#INFO
 	 * INFO} level.
@@ -882,6 +1050,62 @@ public final class TaggedLoggerTest {
 		}
 	}
 
+	/**
+	 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#WARN
+	 * WARN} level.
+	 */
+	@Test
+	public void warnMessageAndMultipleArguments() {
+		logger.warn("{}, {}, {} and {}", "a", "b", "c", "d");
+
+		if (tag1Configuration.isWarnEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isWarnEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+	 * {@link Level#WARN WARN} level.
+	 */
+	@Test
+	public void warnMessageAndPrimitiveArguments() {
+		logger.warn("The number is {}", 42);
+		logger.warn("The ratio is {}", 0.5f);
+		logger.warn("The char is {}", 'c');
+
+		if (tag1Configuration.isWarnEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isWarnEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.WARN), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
 	/**
 	 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at {@link Level#WARN
 	 * WARN} level.
@@ -1108,6 +1332,62 @@ public final class TaggedLoggerTest {
 		}
 	}
 
+	/**
+	 * Verifies that a formatted text message with four arguments will be logged correctly at {@link Level#ERROR
+	 * ERROR} level.
+	 */
+	@Test
+	public void errorMessageAndMultipleArguments() {
+		logger.error("{}, {}, {} and {}", "a", "b", "c", "d");
+
+		if (tag1Configuration.isErrorEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isErrorEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("{}, {}, {} and {}"), eq("a"), eq("b"), eq("c"), eq("d"));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
+	/**
+	 * Verifies that formatted text messages with primitive arguments will be logged correctly at
+	 * {@link Level#ERROR ERROR} level.
+	 */
+	@Test
+	public void errorMessageAndPrimitiveArguments() {
+		logger.error("The number is {}", 42);
+		logger.error("The ratio is {}", 0.5f);
+		logger.error("The char is {}", 'c');
+
+		if (tag1Configuration.isErrorEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG1), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG1), any(), any(), any(), any(), any());
+		}
+
+		if (tag2Configuration != null && tag2Configuration.isErrorEnabled()) {
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The number is {}"), eq(42));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The ratio is {}"), eq(0.5f));
+			verify(loggingProvider).log(eq(2), eq(TAG2), eq(Level.ERROR), isNull(), any(AdvancedMessageFormatter.class),
+				eq("The char is {}"), eq('c'));
+		} else {
+			verify(loggingProvider, never()).log(anyInt(), eq(TAG2), any(), any(), any(), any(), any());
+		}
+	}
+
 	/**
 	 * Verifies that a formatted text message with lazy argument suppliers will be logged correctly at
 	 * {@link Level#ERROR ERROR} level.
@@ -17,13 +17,16 @@ import java.text.ChoiceFormat;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.powermock.reflect.Whitebox;
 import org.tinylog.Supplier;
 import org.tinylog.rules.SystemStreamCollector;
 
@@ -216,6 +219,16 @@ public final class AdvancedMessageFormatterTest {
 		assertThat(format("these <''> are double ticks")).isEqualTo("these <''> are double ticks");
 	}
 
+	/**
+	 * Verifies that a formatted text message can be appended to a string builder that has already content.
+	 */
+	@Test
+	public void appendToStringBuilder() {
+		StringBuilder builder = new StringBuilder("> ");
+		new AdvancedMessageFormatter(Locale.ROOT, escape).format("Hello {}! {#", new Object[] {"World", 42}, builder);
+		assertThat(builder.toString()).isEqualTo("> Hello World! {#");
+	}
+
 	/**
 	 * Verifies that single ticks will be output.
 	 */
@@ -242,6 +255,124 @@ public final class AdvancedMessageFormatterTest {
 		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("#..#");
 	}
 
+	/**
+	 * Verifies that the same text message can be formatted repeatedly with different arguments, while it is parsed
+	 * only once.
+	 */
+	@Test
+	public void reuseTemplate() {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+
+		assertThat(formatter.format("{} = {0.00}", new Object[] {"pi", Math.PI})).isEqualTo("pi = 3.14");
+		assertThat(formatter.format("{} = {0.00}", new Object[] {"e", Math.E})).isEqualTo("e = 2.72");
+
+		Map<String, ?> templates = Whitebox.getInternalState(formatter, "templates");
+		assertThat(templates).containsOnlyKeys("{} = {0.00}");
+	}
+
+	/**
+	 * Verifies that text messages without placeholders are not cached as templates.
+	 */
+	@Test
+	public void skipTemplateWithoutPlaceholders() {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+
+		assertThat(formatter.format("Hello World!", new Object[] {42})).isEqualTo("Hello World!");
+		assertThat(formatter.format("Hello {", new Object[] {42})).isEqualTo("Hello {");
+
+		Map<String, ?> templates = Whitebox.getInternalState(formatter, "templates");
+		assertThat(templates).isEmpty();
+	}
+
+	/**
+	 * Verifies that already cached templates are kept and further text messages are still formatted correctly without
+	 * being cached, if the cache is full.
+	 */
+	@Test
+	public void skipCachingIfFull() {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+
+		for (int i = 0; i < 2000; ++i) {
+			assertThat(formatter.format(i + ": {}", new Object[] {"foo"})).isEqualTo(i + ": foo");
+		}
+
+		assertThat(formatter.format("Hello {}!", new Object[] {"World"})).isEqualTo("Hello World!");
+
+		Map<String, ?> templates = Whitebox.getInternalState(formatter, "templates");
+		assertThat(templates).hasSize(1024).containsKeys("0: {}", "1023: {}").doesNotContainKeys("1024: {}", "Hello {}!");
+	}
+
+	/**
+	 * Verifies that a text message can be formatted with less arguments than placeholders, after the same text message
+	 * has been formatted with enough arguments.
+	 */
+	@Test
+	public void reuseTemplateWithTooFewArguments() {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+
+		assertThat(formatter.format("{} and {}", new Object[] {1, 2})).isEqualTo("1 and 2");
+		assertThat(formatter.format("{} and {}", new Object[] {1})).isEqualTo("1 and {}");
+		assertThat(formatter.format("{} and {}", new Object[0])).isEqualTo("{} and {}");
+	}
+
+	/**
+	 * Verifies that choice format patterns with nested placeholders are resolved for each argument.
+	 */
+	@Test
+	public void reuseTemplateWithNestedPlaceholders() {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+
+		assertThat(formatter.format("{0#no files|1#one file|1<{#,###} files}", new Object[] {1})).isEqualTo("one file");
+		assertThat(formatter.format("{0#no files|1#one file|1<{#,###} files}", new Object[] {1000}))
+			.isEqualTo("1,000 files");
+	}
+
+	/**
+	 * Verifies that illegal patterns are reported each time they are used.
+	 */
+	@Test
+	public void reuseTemplateWithIllegalPattern() {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+
+		assertThat(formatter.format("Test {#..#}!", new Object[] {1})).isEqualTo("Test 1!");
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("#..#");
+
+		assertThat(formatter.format("Test {#..#}!", new Object[] {2})).isEqualTo("Test 2!");
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("#..#");
+	}
+
+	/**
+	 * Verifies that the same number format pattern can be used concurrently by multiple threads.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a formatting thread
+	 */
+	@Test
+	public void concurrentNumberFormat() throws InterruptedException {
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, escape);
+		List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; ++i) {
+			int offset = i * 1000;
+			threads.add(new Thread(() -> {
+				for (int j = offset; j < offset + 1000; ++j) {
+					String result = formatter.format("{0000}", new Object[] {j});
+					if (!result.equals(String.format("%04d", j))) {
+						failures.add(result);
+					}
+				}
+			}));
+		}
+
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures).isEmpty();
+	}
+
 	/**
 	 * Uses {@link AdvancedMessageFormatter} for formatting a text message.
 	 *
@@ -154,6 +154,27 @@ public final class BundleLoggingProviderTest {
 		verify(first).log(BundleContextProvider.class.getName(), "technical", Level.INFO, exception, formatter, "Test", 42);
 		verify(second).log(BundleContextProvider.class.getName(), "technical", Level.INFO, exception, formatter, "Test", 42);
 	}
+
+	/**
+	 * Verifies that {@link BundleLoggingProvider#log(StackTraceElement, String, Level, Throwable, MessageFormatter,
+	 * Object, Object...)} passes the location to location aware logging providers and falls back to
+	 * {@link LoggingProvider#log(String, String, Level, Throwable, MessageFormatter, Object, Object...)} for all other
+	 * logging providers.
+	 */
+	@Test
+	public void logWithLocation() {
+		LocationAwareLoggingProvider locationAware = mock(LocationAwareLoggingProvider.class);
+		LoggingProvider regular = mock(LoggingProvider.class);
+		BundleLoggingProvider provider = new BundleLoggingProvider(asList(locationAware, regular));
+
+		StackTraceElement location = new StackTraceElement("example.MyClass", "foo", "MyClass.java", 42);
+		NullPointerException exception = new NullPointerException();
+		MessageFormatter formatter = mock(MessageFormatter.class);
+		provider.log(location, "technical", Level.INFO, exception, formatter, "Test", 42);
+
+		verify(locationAware).log(location, "technical", Level.INFO, exception, formatter, "Test", 42);
+		verify(regular).log(BundleLoggingProvider.class.getName(), "technical", Level.INFO, exception, formatter, "Test", 42);
+	}
 	
 	
 	/**
@@ -14,6 +14,8 @@
 package org.tinylog.runtime;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.Test;
@@ -79,6 +81,14 @@ public final class ModernJavaRuntimeTest {
 		assertThat(new ModernJavaRuntime().getCallerClassName(1)).isEqualTo(ModernJavaRuntimeTest.class.getName());
 	}
 
+	/**
+	 * Verifies that {@code null} will be returned, if the defined depth exceeds the stack trace.
+	 */
+	@Test
+	public void missingCallerClassNameByIndex() {
+		assertThat(new ModernJavaRuntime().getCallerClassName(Short.MAX_VALUE)).isNull();
+	}
+
 	/**
 	 * Verifies that the fully-qualified class name of a caller will be returned correctly, if successor in stack trace
 	 * is defined.
@@ -117,6 +127,30 @@ public final class ModernJavaRuntimeTest {
 		assertThat(new ModernJavaRuntime().getCallerStackTraceElement(className)).isEqualTo(new Throwable().getStackTrace()[0]);
 	}
 
+	/**
+	 * Verifies that stack trace elements are cached per call site and cache hits and misses are counted.
+	 */
+	@Test
+	public void cachedCallerStackTraceElements() {
+		ModernJavaRuntime runtime = new ModernJavaRuntime();
+		List<StackTraceElement> elements = new ArrayList<>();
+
+		long hits = runtime.getStackTraceElementCacheHits();
+		long misses = runtime.getStackTraceElementCacheMisses();
+
+		for (int i = 0; i < 3; ++i) {
+			elements.add(runtime.getCallerStackTraceElement(1));
+		}
+		StackTraceElement other = runtime.getCallerStackTraceElement(1);
+
+		assertThat(elements.get(0)).isSameAs(elements.get(1)).isSameAs(elements.get(2));
+		assertThat(other).isNotSameAs(elements.get(0));
+		assertThat(other.getLineNumber()).isNotEqualTo(elements.get(0).getLineNumber());
+
+		assertThat(runtime.getStackTraceElementCacheHits()).isEqualTo(hits + 2);
+		assertThat(runtime.getStackTraceElementCacheMisses()).isEqualTo(misses + 2);
+	}
+
 	/**
 	 * Verifies that {@code null} will be returned, if stack trace does not contain the expected successor.
 	 */
@@ -145,6 +179,26 @@ public final class ModernJavaRuntimeTest {
 		assertThat(runtime.createTimestamp().toInstant()).isAfter(timestamp.toInstant());
 	}
 
+	/**
+	 * Verifies that the current time will be provided with the same sub-millisecond precision as timestamps.
+	 */
+	@Test
+	public void getCurrentTimeNanos() {
+		ModernJavaRuntime runtime = new ModernJavaRuntime();
+
+		Instant before = Instant.now();
+		long nanoseconds = runtime.getCurrentTimeNanos();
+		Instant after = Instant.now();
+
+		assertThat(Instant.ofEpochSecond(0, nanoseconds)).isBetween(before, after);
+
+		boolean subMillisecond = false;
+		for (int i = 0; i < 1000 && !subMillisecond; ++i) {
+			subMillisecond = runtime.getCurrentTimeNanos() % 1_000_000 != 0;
+		}
+		assertThat(subMillisecond).isTrue();
+	}
+
 	/**
 	 * Verifies that a precise timestamp formatter will be created.
 	 */
@@ -127,4 +127,64 @@ public final class PreciseTimestampFormatterTest {
 		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 56, 0))).isEqualTo("20160201 45056000000000");
 	}
 
+	/**
+	 * Verifies that formatted timestamps can be appended to a string builder.
+	 */
+	@Test
+	public void appendToBuilder() {
+		PreciseTimestampFormatter formatter = new PreciseTimestampFormatter("HH:mm:ss.SSS", Locale.US);
+		StringBuilder builder = new StringBuilder("Time: ");
+
+		formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 999_000_000), builder);
+		assertThat(builder).hasToString("Time: 12:30:55.999");
+
+		formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 1_000_000), builder.append(" / "));
+		assertThat(builder).hasToString("Time: 12:30:55.999 / 12:30:55.001");
+	}
+
+	/**
+	 * Verifies that fractions of second within a pattern are rendered correctly between the cached parts before and
+	 * after the fraction of second.
+	 */
+	@Test
+	public void fractionWithinPattern() {
+		PreciseTimestampFormatter formatter = new PreciseTimestampFormatter("ss,SS 'on' yyyy-MM-dd", Locale.US);
+
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 0))).isEqualTo("55,00 on 2016-02-01");
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 70_000_000))).isEqualTo("55,07 on 2016-02-01");
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 56, 999_999_999))).isEqualTo("56,99 on 2016-02-01");
+	}
+
+	/**
+	 * Verifies that quoted pattern letters for fractions of second are output as text.
+	 */
+	@Test
+	public void quotedFraction() {
+		PreciseTimestampFormatter formatter = new PreciseTimestampFormatter("HH:mm:ss 'S' S", Locale.US);
+
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 100_000_000))).isEqualTo("12:30:55 S 1");
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 900_000_000))).isEqualTo("12:30:55 S 9");
+	}
+
+	/**
+	 * Verifies that patterns with multiple fractions of second are formatted correctly.
+	 */
+	@Test
+	public void multipleFractions() {
+		PreciseTimestampFormatter formatter = new PreciseTimestampFormatter("ss.SSS / SSSSSS", Locale.US);
+
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 123_456_789))).isEqualTo("55.123 / 123456");
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 987_654_321))).isEqualTo("55.987 / 987654");
+	}
+
+	/**
+	 * Verifies that patterns with optional sections are formatted correctly.
+	 */
+	@Test
+	public void optionalSection() {
+		PreciseTimestampFormatter formatter = new PreciseTimestampFormatter("HH:mm[:ss.SSS]", Locale.US);
+
+		assertThat(formatter.format(TimestampFactory.create(2016, 2, 1, 12, 30, 55, 123_000_000))).isEqualTo("12:30:55.123");
+	}
+
 }
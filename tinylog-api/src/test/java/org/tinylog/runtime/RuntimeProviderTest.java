@@ -213,6 +213,78 @@ public final class RuntimeProviderTest {
 		};
 	}
 
+	/**
+	 * Verifies that the same stack trace element instance will be returned for repeated calls from the same anonymous
+	 * class call site.
+	 */
+	@Test
+	public void cachedAnonymousCallerStackTraceElement() {
+		new Object() {
+			{
+				StackTraceElement first = null;
+				for (int i = 0; i < 2; ++i) {
+					StackTraceElement element = RuntimeProvider.getCallerStackTraceElement(1);
+					assertThat(element.getClassName()).isEqualTo(RuntimeProviderTest.class.getName());
+					if (first == null) {
+						first = element;
+					} else {
+						assertThat(element).isSameAs(first);
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Verifies that a stack frame handle of a caller can be resolved in another thread, if depth in stack trace is
+	 * defined as index.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the resolving thread
+	 */
+	@Test
+	public void callerStackFrameByIndex() throws InterruptedException {
+		StackTraceElement expected = new Throwable().getStackTrace()[0];
+		Object frame = RuntimeProvider.getCallerStackFrame(1);
+
+		StackTraceElement[] resolved = new StackTraceElement[1];
+		Thread thread = new Thread(() -> resolved[0] = RuntimeProvider.resolveStackFrame(frame));
+		thread.start();
+		thread.join();
+
+		assertThat(resolved[0].getClassName()).isEqualTo(expected.getClassName());
+		assertThat(resolved[0].getMethodName()).isEqualTo(expected.getMethodName());
+		assertThat(resolved[0].getFileName()).isEqualTo(expected.getFileName());
+		assertThat(resolved[0].getLineNumber()).isEqualTo(expected.getLineNumber() + 1);
+	}
+
+	/**
+	 * Verifies that a stack frame handle of a caller can be resolved, if successor in stack trace is defined.
+	 */
+	@Test
+	public void callerStackFrameBySuccessor() {
+		String className = RuntimeProvider.class.getName();
+		StackTraceElement expected = new Throwable().getStackTrace()[0];
+		StackTraceElement resolved = RuntimeProvider.resolveStackFrame(RuntimeProvider.getCallerStackFrame(className));
+
+		assertThat(resolved.getClassName()).isEqualTo(expected.getClassName());
+		assertThat(resolved.getMethodName()).isEqualTo(expected.getMethodName());
+		assertThat(resolved.getLineNumber()).isEqualTo(expected.getLineNumber() + 1);
+	}
+
+	/**
+	 * Verifies that a handle for a pre-filled {@link StackTraceElement} will be returned, if stack trace does not
+	 * contain the expected successor.
+	 */
+	@Test
+	public void missingSuccessorForCallerStackFrame() {
+		Object frame = RuntimeProvider.getCallerStackFrame(Logger.class.getName());
+		assertThat(RuntimeProvider.resolveStackFrame(frame)).isEqualTo(
+			new StackTraceElement("<unknown class>", "<unknown method>", "<unknown file>", -1)
+		);
+		assertThat(systemStream.consumeErrorOutput()).contains(Logger.class.getName(), "missing");
+	}
+
 	/**
 	 * Verifies that pre-filled {@link StackTraceElement} will be returned, if stack trace does not contain the expected
 	 * successor.
@@ -285,6 +357,18 @@ public final class RuntimeProviderTest {
 		assertThat(className).isEqualTo("groovyClosure");
 	}
 
+	/**
+	 * Verifies that the current time will be provided in nanoseconds.
+	 */
+	@Test
+	public void getCurrentTimeNanos() {
+		long before = System.currentTimeMillis();
+		long nanoseconds = RuntimeProvider.getCurrentTimeNanos();
+		long after = System.currentTimeMillis();
+
+		assertThat(nanoseconds / 1_000_000).isBetween(before, after);
+	}
+
 	/**
 	 * Verifies that correct timestamps will be created.
 	 *
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Clock that adds the elapsed {@link System#nanoTime()} to the time at creation. The current time is calculated
+ * without requesting the system clock. However, adjustments of the system clock after creation are not followed.
+ */
+final class AnchoredClock implements Clock {
+
+	private static final long MILLISECOND_IN_NANOS = 1000000;
+
+	private final long anchorTime;
+	private final long anchorTicks;
+
+	/** */
+	AnchoredClock() {
+		anchorTime = System.currentTimeMillis() * MILLISECOND_IN_NANOS;
+		anchorTicks = System.nanoTime();
+	}
+
+	@Override
+	public long currentTimeNanos() {
+		return anchorTime + (System.nanoTime() - anchorTicks);
+	}
+
+	@Override
+	public Timestamp createTimestamp() {
+		return new MutableTimestamp(currentTimeNanos());
+	}
+
+	@Override
+	public void shutdown() {
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Clock that reads the current time from a volatile field. The field is updated about every millisecond by a daemon
+ * thread. Therefore, timestamps have millisecond precision at best and can lag behind, if the daemon thread is not
+ * scheduled in time.
+ */
+final class CachedClock implements Clock, Runnable {
+
+	private static final long MILLISECOND_IN_NANOS = 1000000;
+
+	private final Thread thread;
+	private volatile long milliseconds;
+
+	/** */
+	CachedClock() {
+		milliseconds = System.currentTimeMillis();
+		thread = new Thread(this, "tinylog-Clock");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public void run() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				milliseconds = System.currentTimeMillis();
+				Thread.sleep(1);
+			}
+		} catch (InterruptedException ex) {
+			// Clock has been shut down
+		}
+	}
+
+	@Override
+	public long currentTimeNanos() {
+		return milliseconds * MILLISECOND_IN_NANOS;
+	}
+
+	@Override
+	public Timestamp createTimestamp() {
+		return new MutableTimestamp(currentTimeNanos());
+	}
+
+	@Override
+	public void shutdown() {
+		thread.interrupt();
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Source for the timestamps of log entries.
+ */
+interface Clock {
+
+	/**
+	 * Gets the current time.
+	 *
+	 * @return Nanoseconds since January 1, 1970, 00:00:00 GMT
+	 */
+	long currentTimeNanos();
+
+	/**
+	 * Creates a timestamp with the current time for a new log entry.
+	 *
+	 * @return Current timestamp
+	 */
+	Timestamp createTimestamp();
+
+	/**
+	 * Releases all resources of this clock. The clock must not be used afterwards.
+	 */
+	void shutdown();
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * Enumerated sources for the timestamps of log entries.
+ */
+public enum ClockMode {
+
+	/**
+	 * Requests the current time from the runtime for each log entry.
+	 */
+	PRECISE,
+
+	/**
+	 * Reads the current time from a millisecond clock that is updated by a background thread.
+	 */
+	CACHED,
+
+	/**
+	 * Calculates the current time from a start time anchor and the elapsed {@link System#nanoTime()}.
+	 */
+	NANOTIME_ANCHORED;
+
+}
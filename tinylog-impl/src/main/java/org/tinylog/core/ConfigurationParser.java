@@ -23,6 +23,7 @@ import java.util.Map.Entry;
 import org.tinylog.Level;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.provider.InternalLogger;
+import org.tinylog.runtime.RuntimeProvider;
 
 /**
  * Parser for properties based configuration.
@@ -92,6 +93,203 @@ public final class ConfigurationParser {
 		return "true".equalsIgnoreCase(Configuration.get("writingthread"));
 	}
 
+	/**
+	 * Loads the maximum number of log entries that can be queued for the writing thread.
+	 *
+	 * @return Configured queue size or the default queue size if no valid queue size is configured
+	 */
+	public static int getWritingThreadQueueSize() {
+		String property = Configuration.get("writingthread.queue.size");
+		if (property == null) {
+			return WritingThread.DEFAULT_QUEUE_SIZE;
+		}
+
+		int size;
+		try {
+			size = Integer.parseInt(property.trim());
+		} catch (NumberFormatException ex) {
+			size = -1;
+		}
+
+		if (size > 0) {
+			return size;
+		} else {
+			InternalLogger.log(Level.ERROR, "Invalid queue size for writing thread: " + property);
+			return WritingThread.DEFAULT_QUEUE_SIZE;
+		}
+	}
+
+	/**
+	 * Loads the strategy for handling new log entries if the queue of the writing thread is full.
+	 *
+	 * @return Configured overflow policy or {@link OverflowPolicy#BLOCK} if no valid overflow policy is configured
+	 */
+	public static OverflowPolicy getWritingThreadOverflowPolicy() {
+		String property = Configuration.get("writingthread.overflow");
+		if (property == null) {
+			return OverflowPolicy.BLOCK;
+		}
+
+		String name = property.split(":", 2)[0].trim();
+		try {
+			return OverflowPolicy.valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+		} catch (IllegalArgumentException ex) {
+			InternalLogger.log(Level.ERROR, "Invalid overflow policy for writing thread: " + property);
+			return OverflowPolicy.BLOCK;
+		}
+	}
+
+	/**
+	 * Loads the severity level for {@link OverflowPolicy#DROP_BELOW_LEVEL}. The severity level can be passed as
+	 * argument of the overflow policy, for example {@code writingthread.overflow = drop-below-level: warn}.
+	 *
+	 * @return Configured severity level or {@link Level#WARN} if no valid severity level is configured
+	 */
+	public static Level getWritingThreadOverflowLevel() {
+		String property = Configuration.get("writingthread.overflow");
+		String[] parts = property == null ? new String[0] : property.split(":", 2);
+		return parts.length < 2 ? Level.WARN : parse(parts[1].trim(), Level.WARN);
+	}
+
+	/**
+	 * Loads the strategy for waiting for new log entries if the queue of the writing thread is empty.
+	 *
+	 * @return Configured wait strategy or the default wait strategy if no valid wait strategy is configured. The
+	 *         default wait strategy is {@link WaitStrategy#PARK} in virtual thread mode, otherwise
+	 *         {@link WaitStrategy#SLEEP}.
+	 */
+	public static WaitStrategy getWritingThreadWaitStrategy() {
+		WaitStrategy defaultStrategy = isVirtualThreadModeEnabled() ? WaitStrategy.PARK : WaitStrategy.SLEEP;
+
+		String property = Configuration.get("writingthread.wait");
+		if (property == null) {
+			return defaultStrategy;
+		}
+
+		String name = property.split(":", 2)[0].trim();
+		try {
+			return WaitStrategy.valueOf(name.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException ex) {
+			InternalLogger.log(Level.ERROR, "Invalid wait strategy for writing thread: " + property);
+			return defaultStrategy;
+		}
+	}
+
+	/**
+	 * Loads the time window in milliseconds for {@link WaitStrategy#BATCH}. The time window can be passed as argument
+	 * of the wait strategy, for example {@code writingthread.wait = batch: 5}.
+	 *
+	 * @return Configured time window or the default time window if no valid time window is configured
+	 */
+	public static long getWritingThreadBatchWindow() {
+		String property = Configuration.get("writingthread.wait");
+		String[] parts = property == null ? new String[0] : property.split(":", 2);
+		if (parts.length < 2) {
+			return WritingThread.DEFAULT_BATCH_WINDOW;
+		}
+
+		long window;
+		try {
+			window = Long.parseLong(parts[1].trim());
+		} catch (NumberFormatException ex) {
+			window = -1;
+		}
+
+		if (window >= 0) {
+			return window;
+		} else {
+			InternalLogger.log(Level.ERROR, "Invalid batch window for writing thread: " + property);
+			return WritingThread.DEFAULT_BATCH_WINDOW;
+		}
+	}
+
+	/**
+	 * Loads the source for the timestamps of log entries.
+	 *
+	 * @return Configured clock mode or {@link ClockMode#PRECISE} if no valid clock mode is configured
+	 */
+	public static ClockMode getClockMode() {
+		String property = Configuration.get("clock");
+		if (property == null) {
+			return ClockMode.PRECISE;
+		}
+
+		try {
+			return ClockMode.valueOf(property.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+		} catch (IllegalArgumentException ex) {
+			InternalLogger.log(Level.ERROR, "Invalid clock mode: " + property);
+			return ClockMode.PRECISE;
+		}
+	}
+
+	/**
+	 * Detects whether lazy resolution of the location is enabled for the writing thread. In this mode, only a handle
+	 * for the stack frame of the caller is captured by the issuing thread. Method name, source file name, and line
+	 * number are resolved by the writing thread.
+	 *
+	 * @return {@code true} if lazy resolution of the location is enabled, otherwise {@code false}
+	 */
+	public static boolean isLazyLocationEnabled() {
+		return "lazy".equalsIgnoreCase(Configuration.get("writingthread.location"));
+	}
+
+	/**
+	 * Detects whether deferred formatting is enabled for the writing thread. In this mode, text messages with
+	 * arguments of immutable types are formatted by the writing thread instead of the issuing thread.
+	 *
+	 * @return {@code true} if deferred formatting is enabled, otherwise {@code false}
+	 */
+	public static boolean isDeferredFormattingEnabled() {
+		return "deferred".equalsIgnoreCase(Configuration.get("writingthread.formatting"));
+	}
+
+	/**
+	 * Loads all additionally registered argument types that are safe for deferred formatting. Strings and boxed
+	 * primitives are always safe and don't have to be registered.
+	 *
+	 * @return Found argument types
+	 */
+	public static List<Class<?>> getDeferrableArgumentTypes() {
+		String property = Configuration.get("writingthread.formatting.types");
+		List<Class<?>> types = new ArrayList<Class<?>>();
+
+		if (property != null) {
+			ClassLoader classLoader = RuntimeProvider.getClassLoader();
+			for (String name : property.split(",")) {
+				String className = name.trim();
+				if (className.length() > 0) {
+					try {
+						types.add(Class.forName(className, false, classLoader));
+					} catch (ClassNotFoundException ex) {
+						InternalLogger.log(Level.ERROR, "Argument type '" + className + "' for deferred formatting not found");
+					}
+				}
+			}
+		}
+
+		return types;
+	}
+
+	/**
+	 * Detects whether virtual thread mode is enabled in configuration. In this mode, the thread context is not
+	 * inherited by child threads and the writing thread parks instead of polling by default.
+	 *
+	 * @return {@code true} if virtual thread mode is enabled, otherwise {@code false}
+	 */
+	public static boolean isVirtualThreadModeEnabled() {
+		return "true".equalsIgnoreCase(Configuration.get("virtualthreads"));
+	}
+
+	/**
+	 * Detects whether garbage-free mode is enabled in configuration. In this mode, log entries are recycled instead of
+	 * creating a new log entry for each log statement.
+	 *
+	 * @return {@code true} if garbage-free mode is enabled, otherwise {@code false}
+	 */
+	public static boolean isGarbageFreeModeEnabled() {
+		return "true".equalsIgnoreCase(Configuration.get("garbagefree"));
+	}
+
 	/**
 	 * Detects whether auto shutdown is enabled in configuration.
 	 *
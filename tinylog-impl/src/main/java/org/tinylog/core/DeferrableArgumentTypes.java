@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Collection;
+
+/**
+ * Argument types that are safe for deferred formatting by the writing thread. Arguments of these types must be
+ * immutable, as they are formatted after the issuing thread has continued. Strings and boxed primitives are always
+ * safe. Further types can be registered.
+ */
+final class DeferrableArgumentTypes {
+
+	private final Class<?>[] registeredTypes;
+
+	/**
+	 * @param registeredTypes
+	 *            Additional immutable types, including all of their subtypes
+	 */
+	DeferrableArgumentTypes(final Collection<Class<?>> registeredTypes) {
+		this.registeredTypes = registeredTypes.toArray(new Class<?>[registeredTypes.size()]);
+	}
+
+	/**
+	 * Checks whether all arguments are safe for deferred formatting.
+	 *
+	 * @param arguments
+	 *            Arguments to check
+	 * @return {@code true} if all arguments are either {@code null} or of a safe type, {@code false} if at least one
+	 *         argument is not of a safe type
+	 */
+	boolean isDeferrable(final Object[] arguments) {
+		for (Object argument : arguments) {
+			if (argument != null && !isDeferrable(argument)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks whether a single argument is safe for deferred formatting.
+	 *
+	 * @param argument
+	 *            Argument to check
+	 * @return {@code true} if the argument is of a safe type, otherwise {@code false}
+	 */
+	private boolean isDeferrable(final Object argument) {
+		Class<?> type = argument.getClass();
+		if (type == String.class || type == Integer.class || type == Long.class || type == Double.class
+			|| type == Boolean.class || type == Character.class || type == Float.class || type == Short.class
+			|| type == Byte.class) {
+			return true;
+		}
+
+		for (Class<?> registeredType : registeredTypes) {
+			if (registeredType.isInstance(argument)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
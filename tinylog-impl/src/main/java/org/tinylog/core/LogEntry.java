@@ -16,28 +16,54 @@ package org.tinylog.core;
 import java.util.Map;
 
 import org.tinylog.Level;
+import org.tinylog.format.MessageFormatter;
+import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.runtime.Timestamp;
 
 /**
- * Immutable holder of all required data for writing a log entry.
+ * Holder of all required data for writing a log entry.
  *
  * <p>
  * A writer can only depend on values that have been requested. All other values are may {@code null}.
  * </p>
+ *
+ * <p>
+ * Log entries are immutable, unless garbage-free mode is enabled. In garbage-free mode, log entries are recycled for
+ * further log entries as soon as they have been passed to all writers. Therefore, writers must not keep any
+ * references to passed log entries in garbage-free mode.
+ * </p>
  */
 public final class LogEntry {
 
-	private final Timestamp timestamp;
-	private final Thread thread;
-	private final Map<String, String> context;
-	private final String className;
-	private final String methodName;
-	private final String fileName;
-	private final int lineNumber;
-	private final String tag;
-	private final Level level;
-	private final String message;
-	private final Throwable exception;
+	private final MutableTimestamp reusableTimestamp;
+	private final StringBuilder messageBuilder;
+
+	private Timestamp timestamp;
+	private Thread thread;
+	private Map<String, String> context;
+	private String className;
+	private String methodName;
+	private String fileName;
+	private int lineNumber;
+	private String tag;
+	private Level level;
+	private String message;
+	private boolean hasMessage;
+	private Throwable exception;
+	private volatile Object stackFrame;
+	private MessageFormatter deferredFormatter;
+	private String deferredMessage;
+	private volatile Object[] deferredArguments;
+
+	/**
+	 * Creates a reusable log entry for garbage-free mode. The timestamp and the text message are stored in mutable
+	 * objects that are owned by this log entry.
+	 */
+	LogEntry() {
+		this.reusableTimestamp = new MutableTimestamp();
+		this.messageBuilder = new StringBuilder();
+		this.lineNumber = -1;
+	}
 
 	/**
 	 * @param timestamp
@@ -66,6 +92,8 @@ public final class LogEntry {
 	public LogEntry(final Timestamp timestamp, final Thread thread, final Map<String, String> context, final String className,
 		final String methodName, final String fileName, final int lineNumber, final String tag, final Level level,
 		final String message, final Throwable exception) {
+		this.reusableTimestamp = null;
+		this.messageBuilder = null;
 		this.timestamp = timestamp;
 		this.thread = thread;
 		this.context = context;
@@ -76,6 +104,7 @@ public final class LogEntry {
 		this.tag = tag;
 		this.level = level;
 		this.message = message;
+		this.hasMessage = message != null;
 		this.exception = exception;
 	}
 
@@ -112,6 +141,7 @@ public final class LogEntry {
 	 * @return Name of class
 	 */
 	public String getClassName() {
+		resolveStackFrame();
 		return className;
 	}
 
@@ -121,6 +151,7 @@ public final class LogEntry {
 	 * @return Name of method
 	 */
 	public String getMethodName() {
+		resolveStackFrame();
 		return methodName;
 	}
 
@@ -130,6 +161,7 @@ public final class LogEntry {
 	 * @return Name of source file
 	 */
 	public String getFileName() {
+		resolveStackFrame();
 		return fileName;
 	}
 
@@ -139,6 +171,7 @@ public final class LogEntry {
 	 * @return Line number in source file
 	 */
 	public int getLineNumber() {
+		resolveStackFrame();
 		return lineNumber;
 	}
 
@@ -166,9 +199,28 @@ public final class LogEntry {
 	 * @return Text message
 	 */
 	public String getMessage() {
+		formatDeferredMessage();
+		if (message == null && hasMessage) {
+			message = messageBuilder.toString();
+		}
 		return message;
 	}
 
+	/**
+	 * Gets the text message of this log entry without creating a new string for reusable log entries. The returned
+	 * character sequence is only valid as long as the log entry is passed to the writer.
+	 *
+	 * @return Text message
+	 */
+	public CharSequence getMessageAsCharSequence() {
+		formatDeferredMessage();
+		if (hasMessage) {
+			return message == null ? messageBuilder : message;
+		} else {
+			return null;
+		}
+	}
+
 	/**
 	 * Gets the caught exception or throwable associated with this log entry.
 	 *
@@ -178,4 +230,164 @@ public final class LogEntry {
 		return exception;
 	}
 
+	/**
+	 * Checks whether this log entry is a reusable log entry for garbage-free mode.
+	 *
+	 * @return {@code true} if reusable, {@code false} if immutable
+	 */
+	boolean isReusable() {
+		return messageBuilder != null;
+	}
+
+	/**
+	 * Gets the mutable timestamp of this reusable log entry. The timestamp must be updated by the caller.
+	 *
+	 * @return Owned timestamp
+	 */
+	MutableTimestamp getReusableTimestamp() {
+		return reusableTimestamp;
+	}
+
+	/**
+	 * Gets the reusable string builder for the text message. It is empty after calling
+	 * {@link #reset(Thread, Map, String, String, String, int, String, Level, Throwable) reset()}. The text message of
+	 * this log entry is only defined, if {@link #commitMessage()} is called after filling the string builder.
+	 *
+	 * @return String builder for text message
+	 */
+	StringBuilder getMessageBuilder() {
+		return messageBuilder;
+	}
+
+	/**
+	 * Marks the content of the string builder for the text message as defined text message.
+	 */
+	void commitMessage() {
+		hasMessage = true;
+	}
+
+	/**
+	 * Sets a text message with placeholders that will be formatted on first access. All arguments must be immutable.
+	 *
+	 * @param formatter
+	 *            Formatter for the text message
+	 * @param message
+	 *            Text message with placeholders
+	 * @param arguments
+	 *            Immutable replacements for placeholders
+	 */
+	void setDeferredMessage(final MessageFormatter formatter, final String message, final Object[] arguments) {
+		this.deferredFormatter = formatter;
+		this.deferredMessage = message;
+		this.deferredArguments = arguments;
+	}
+
+	/**
+	 * Sets a handle for the stack frame of the caller. Class name, method name, source file name, and line number will
+	 * be resolved from this handle on first access.
+	 *
+	 * @param stackFrame
+	 *            Handle from {@link RuntimeProvider#getCallerStackFrame(int)} or
+	 *            {@link RuntimeProvider#getCallerStackFrame(String)}
+	 */
+	void setStackFrame(final Object stackFrame) {
+		this.stackFrame = stackFrame;
+	}
+
+	/**
+	 * Overwrites all values of this reusable log entry, except the timestamp, and clears the text message.
+	 *
+	 * @param thread
+	 *            Thread that has issued this log entry
+	 * @param context
+	 *            Actual thread context mapping
+	 * @param className
+	 *            Name of class in which this log entry has been issued
+	 * @param methodName
+	 *            Name of method in which this log entry has been issued
+	 * @param fileName
+	 *            Name of source file in which this log entry has been issued
+	 * @param lineNumber
+	 *            Line number in source file where this log entry has been issued
+	 * @param tag
+	 *            Tag from logger if this log entry has been issued by a tagged logger
+	 * @param level
+	 *            Severity level of this log entry
+	 * @param exception
+	 *            Caught exception or throwable associated with this log entry
+	 */
+	void reset(final Thread thread, final Map<String, String> context, final String className, final String methodName,
+		final String fileName, final int lineNumber, final String tag, final Level level, final Throwable exception) {
+		this.timestamp = reusableTimestamp;
+		this.thread = thread;
+		this.context = context;
+		this.className = className;
+		this.methodName = methodName;
+		this.fileName = fileName;
+		this.lineNumber = lineNumber;
+		this.tag = tag;
+		this.level = level;
+		this.message = null;
+		this.hasMessage = false;
+		this.exception = exception;
+		this.stackFrame = null;
+		this.deferredArguments = null;
+		this.messageBuilder.setLength(0);
+	}
+
+	/**
+	 * Copies all values of another log entry into this reusable log entry. Mutable values like a reusable timestamp
+	 * and the text message are copied by value, so that the passed log entry can be recycled afterwards.
+	 *
+	 * @param other
+	 *            Log entry to copy
+	 */
+	void copyFrom(final LogEntry other) {
+		Object otherStackFrame = other.stackFrame;
+		reset(other.thread, other.context, other.className, other.methodName, other.fileName, other.lineNumber,
+			other.tag, other.level, other.exception);
+		stackFrame = otherStackFrame;
+
+		if (other.timestamp instanceof MutableTimestamp) {
+			reusableTimestamp.setNanoseconds(((MutableTimestamp) other.timestamp).getNanoseconds());
+		} else {
+			timestamp = other.timestamp;
+		}
+
+		CharSequence otherMessage = other.getMessageAsCharSequence();
+		if (otherMessage != null) {
+			messageBuilder.append(otherMessage);
+			hasMessage = true;
+		}
+	}
+
+	/**
+	 * Formats a pending text message with placeholders. If several threads format the same text message
+	 * simultaneously, all of them will set the same text message.
+	 */
+	private void formatDeferredMessage() {
+		Object[] arguments = deferredArguments;
+		if (arguments != null) {
+			message = deferredFormatter.format(deferredMessage, arguments);
+			hasMessage = message != null;
+			deferredArguments = null;
+		}
+	}
+
+	/**
+	 * Resolves a pending handle for the stack frame of the caller into class name, method name, source file name, and
+	 * line number. If several threads resolve the same handle simultaneously, all of them will set the same values.
+	 */
+	private void resolveStackFrame() {
+		Object frame = stackFrame;
+		if (frame != null) {
+			StackTraceElement element = RuntimeProvider.resolveStackFrame(frame);
+			className = element.getClassName();
+			methodName = element.getMethodName();
+			fileName = element.getFileName();
+			lineNumber = element.getLineNumber();
+			stackFrame = null;
+		}
+	}
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+import org.tinylog.runtime.Timestamp;
+
+/**
+ * Timestamp that stores the nanoseconds since epoch as primitive long. It is mutable for reusable log entries in
+ * garbage-free mode and used as lightweight timestamp by {@link Clock clocks}. The last created {@link Instant} is
+ * kept and returned again as long as the time has not changed. All other conversion methods create new objects on each
+ * call.
+ */
+final class MutableTimestamp implements Timestamp {
+
+	private static final long MILLISECOND_IN_NANOS = 1000000;
+	private static final long SECOND_IN_NANOS = 1000000000;
+
+	private long nanoseconds;
+	private Object instant;
+
+	/** */
+	MutableTimestamp() {
+	}
+
+	/**
+	 * @param nanoseconds
+	 *            Nanoseconds since January 1, 1970, 00:00:00 GMT
+	 */
+	MutableTimestamp(final long nanoseconds) {
+		this.nanoseconds = nanoseconds;
+	}
+
+	/**
+	 * Gets the nanoseconds since January 1, 1970, 00:00:00 GMT.
+	 *
+	 * @return Nanoseconds since epoch
+	 */
+	long getNanoseconds() {
+		return nanoseconds;
+	}
+
+	/**
+	 * Sets the nanoseconds since January 1, 1970, 00:00:00 GMT.
+	 *
+	 * @param nanoseconds
+	 *            Nanoseconds since epoch
+	 */
+	void setNanoseconds(final long nanoseconds) {
+		this.nanoseconds = nanoseconds;
+	}
+
+	/**
+	 * Gets the milliseconds since January 1, 1970, 00:00:00 GMT.
+	 *
+	 * @return Milliseconds since epoch
+	 */
+	long getMilliseconds() {
+		return nanoseconds / MILLISECOND_IN_NANOS;
+	}
+
+	/**
+	 * Sets the milliseconds since January 1, 1970, 00:00:00 GMT.
+	 *
+	 * @param milliseconds
+	 *            Milliseconds since epoch
+	 */
+	void setMilliseconds(final long milliseconds) {
+		this.nanoseconds = milliseconds * MILLISECOND_IN_NANOS;
+	}
+
+	@Override
+	public Date toDate() {
+		return new Date(getMilliseconds());
+	}
+
+	@IgnoreJRERequirement
+	@Override
+	public Instant toInstant() {
+		long seconds = nanoseconds / SECOND_IN_NANOS;
+		int nanos = (int) (nanoseconds % SECOND_IN_NANOS);
+
+		Instant cached = (Instant) instant;
+		if (cached == null || cached.getEpochSecond() != seconds || cached.getNano() != nanos) {
+			cached = Instant.ofEpochSecond(seconds, nanos);
+			instant = cached;
+		}
+
+		return cached;
+	}
+
+	@Override
+	public java.sql.Timestamp toSqlTimestamp() {
+		java.sql.Timestamp timestamp = new java.sql.Timestamp(getMilliseconds());
+		timestamp.setNanos((int) (nanoseconds % SECOND_IN_NANOS));
+		return timestamp;
+	}
+
+	@Override
+	public long calcDifferenceInNanoseconds(final Timestamp other) {
+		if (other instanceof MutableTimestamp) {
+			return nanoseconds - ((MutableTimestamp) other).nanoseconds;
+		} else {
+			return nanoseconds - other.toDate().getTime() * MILLISECOND_IN_NANOS;
+		}
+	}
+
+}
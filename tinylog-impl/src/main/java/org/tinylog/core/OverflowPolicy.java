@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * Enumerated strategies for handling new log entries if the queue of the {@link WritingThread} is full.
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Waits until the writing thread has released a slot.
+	 */
+	BLOCK,
+
+	/**
+	 * Discards the new log entry.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * Discards the oldest queued log entry to make room for the new log entry.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Discards the new log entry if its severity level is below a configured severity level. Otherwise, it waits like
+	 * {@link #BLOCK}.
+	 */
+	DROP_BELOW_LEVEL,
+
+	/**
+	 * Writes the new log entry synchronously in the issuing thread.
+	 */
+	SYNC;
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.tinylog.writers.Writer;
+
+/**
+ * Bounded lock-free queue for passing log entries from multiple producer threads to a single consumer thread. Each
+ * slot holds a log entry together with all writers that should write it.
+ *
+ * <p>
+ * All slots are allocated once and reused. A producer claims the next sequence number via compare-and-set, fills the
+ * slot of the claimed sequence and publishes it afterwards via a volatile write. Thus, a consumer that checks the
+ * queue after announcing to park cannot miss a log entry. The consumer takes published slots in sequence order and
+ * releases them for reuse after processing. Only the consumer thread is allowed to call {@link #peek()},
+ * {@link #take(long)}, and {@link #release(long)}.
+ * </p>
+ *
+ * <p>
+ * Producers can discard the oldest published slot via {@link #discardOldest()}. Taking and discarding compete for a
+ * slot via compare-and-set on its published sequence number. Thus, a slot is either taken or discarded, and a taken
+ * slot cannot be discarded or reused before the consumer has released it.
+ * </p>
+ *
+ * <p>
+ * Reusable log entries from garbage-free mode are not stored by reference, but copied into a reusable log entry that
+ * is owned by the slot. Such slot-owned log entries are allocated once on first use and overwritten afterwards. The
+ * consumer can use them directly until releasing their slot.
+ * </p>
+ */
+final class RingBuffer {
+
+	private static final int MAXIMUM_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE);
+	private static final long UNPUBLISHED = -1L;
+
+	private final int capacity;
+	private final int mask;
+	private final Collection<Writer>[] writers;
+	private final LogEntry[] logEntries;
+	private final AtomicLongArray published;
+	private final AtomicLong claimed;
+	private final AtomicLong released;
+
+	/**
+	 * @param capacity
+	 *            Minimum number of slots (will be rounded up to the next power of two)
+	 */
+	RingBuffer(final int capacity) {
+		this.capacity = roundUpToPowerOfTwo(capacity);
+		this.mask = this.capacity - 1;
+		this.writers = createWriterArray(this.capacity);
+		this.logEntries = new LogEntry[this.capacity];
+
+		long[] sequences = new long[this.capacity];
+		Arrays.fill(sequences, UNPUBLISHED);
+		this.published = new AtomicLongArray(sequences);
+
+		this.claimed = new AtomicLong(-1L);
+		this.released = new AtomicLong(-1L);
+	}
+
+	/**
+	 * Gets the real number of slots.
+	 *
+	 * @return Number of slots
+	 */
+	int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Adds a log entry for writers, if there is a free slot. This method can be called from any thread. Reusable log
+	 * entries are copied, so that they can be recycled by the caller as soon as this method returns.
+	 *
+	 * @param writers
+	 *            Writers to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 * @return {@code true} if the log entry has been added, {@code false} if the ring buffer is full
+	 */
+	boolean offer(final Collection<Writer> writers, final LogEntry logEntry) {
+		long sequence;
+
+		do {
+			sequence = claimed.get() + 1;
+			if (sequence - released.get() > capacity) {
+				return false;
+			}
+		} while (!claimed.compareAndSet(sequence - 1, sequence));
+
+		int index = (int) sequence & mask;
+		this.writers[index] = writers;
+		if (logEntry != null && logEntry.isReusable()) {
+			LogEntry slot = logEntries[index];
+			if (slot == null || !slot.isReusable()) {
+				slot = new LogEntry();
+				logEntries[index] = slot;
+			}
+			slot.copyFrom(logEntry);
+		} else {
+			logEntries[index] = logEntry;
+		}
+		published.set(index, sequence);
+
+		return true;
+	}
+
+	/**
+	 * Discards the oldest published log entry to make room for a new one. This method can be called from any thread.
+	 * Slots without writers and slots that are taken by the consumer are never discarded.
+	 *
+	 * @return {@code true} if a log entry has been discarded, {@code false} if the oldest slot is not published yet,
+	 *         has no writers, or has been taken by the consumer
+	 */
+	boolean discardOldest() {
+		long sequence = released.get() + 1;
+		int index = (int) sequence & mask;
+
+		if (published.get(index) != sequence || writers[index] == null) {
+			return false;
+		} else if (published.compareAndSet(index, sequence, UNPUBLISHED)) {
+			released.set(sequence);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the sequence number of the next published slot, which can be taken by the consumer.
+	 *
+	 * @return Sequence number of next published slot or {@code -1} if there is none
+	 */
+	long peek() {
+		long sequence = released.get() + 1;
+		return published.get((int) sequence & mask) == sequence ? sequence : -1L;
+	}
+
+	/**
+	 * Gets the writers of a published slot.
+	 *
+	 * @param sequence
+	 *            Sequence number from {@link #peek()}
+	 * @return Stored writers
+	 */
+	Collection<Writer> getWriters(final long sequence) {
+		return writers[(int) sequence & mask];
+	}
+
+	/**
+	 * Gets the log entry of a published slot.
+	 *
+	 * @param sequence
+	 *            Sequence number from {@link #peek()}
+	 * @return Stored log entry
+	 */
+	LogEntry getLogEntry(final long sequence) {
+		return logEntries[(int) sequence & mask];
+	}
+
+	/**
+	 * Takes a published slot. Values of the slot must be only used if this method returns {@code true}. A taken slot
+	 * has to be released via {@link #release(long)} after processing.
+	 *
+	 * @param sequence
+	 *            Sequence number from {@link #peek()}
+	 * @return {@code true} if the slot has been taken, {@code false} if it has been already discarded by a producer
+	 */
+	boolean take(final long sequence) {
+		return published.compareAndSet((int) sequence & mask, sequence, UNPUBLISHED);
+	}
+
+	/**
+	 * Releases a taken slot for reuse.
+	 *
+	 * @param sequence
+	 *            Sequence number of a slot that has been taken via {@link #take(long)}
+	 */
+	void release(final long sequence) {
+		released.set(sequence);
+	}
+
+	/**
+	 * Rounds up a capacity to the next power of two.
+	 *
+	 * @param capacity
+	 *            Minimum capacity
+	 * @return Power of two that is equal to or greater than the passed capacity
+	 */
+	private static int roundUpToPowerOfTwo(final int capacity) {
+		if (capacity <= 1) {
+			return 1;
+		} else if (capacity >= MAXIMUM_CAPACITY) {
+			return MAXIMUM_CAPACITY;
+		} else {
+			return Integer.highestOneBit(capacity - 1) << 1;
+		}
+	}
+
+	/**
+	 * Creates a generic array for writer collections.
+	 *
+	 * @param length
+	 *            Length of array
+	 * @return New array with the passed length
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Collection<Writer>[] createWriterArray(final int length) {
+		return new Collection[length];
+	}
+
+}
@@ -22,6 +22,12 @@ import org.tinylog.provider.ContextProvider;
 /**
  * tinylog's native context provider implementation uses a {@link InheritableThreadLocal} to store thread context
  * values.
+ *
+ * <p>
+ * Optionally, a plain {@link ThreadLocal} can be used instead. Then, child threads don't inherit the thread context
+ * values from their parent threads. This avoids creating an inherited thread local map for each new thread, which is
+ * useful for applications that start millions of short-lived virtual threads.
+ * </p>
  */
 public class TinylogContextProvider implements ContextProvider {
 
@@ -29,7 +35,20 @@ public class TinylogContextProvider implements ContextProvider {
 
 	/** */
 	public TinylogContextProvider() {
-		data = new InheritableEmptyMapThreadLocal<String, String>();
+		this(true);
+	}
+
+	/**
+	 * @param inheritable
+	 *            {@code true} if child threads inherit the thread context values of their parent threads,
+	 *            {@code false} if each thread starts with an empty thread context
+	 */
+	public TinylogContextProvider(final boolean inheritable) {
+		if (inheritable) {
+			data = new InheritableEmptyMapThreadLocal<String, String>();
+		} else {
+			data = new EmptyMapThreadLocal<String, String>();
+		}
 	}
 
 	@Override
@@ -66,6 +85,27 @@ public class TinylogContextProvider implements ContextProvider {
 		data.set(Collections.<String, String>emptyMap());
 	}
 
+	/**
+	 * Thread local with an empty map as initial value.
+	 *
+	 * @param <K>
+	 *            Type of map keys
+	 * @param <V>
+	 *            Type of map values
+	 */
+	private static final class EmptyMapThreadLocal<K, V> extends ThreadLocal<Map<K, V>> {
+
+		/** */
+		private EmptyMapThreadLocal() {
+		}
+
+		@Override
+		protected Map<K, V> initialValue() {
+			return Collections.emptyMap();
+		}
+
+	}
+
 	/**
 	 * Inheritable thread local with an empty map as initial value.
 	 *
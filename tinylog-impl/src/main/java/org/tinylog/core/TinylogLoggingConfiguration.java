@@ -23,11 +23,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.tinylog.Level;
 import org.tinylog.Supplier;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.configuration.ServiceLoader;
+import org.tinylog.format.AbstractMessageFormatter;
 import org.tinylog.format.MessageFormatter;
 import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.runtime.Timestamp;
@@ -38,8 +40,13 @@ import org.tinylog.writers.Writer;
  * writers, general provider configuration and a creation of a {@link LogEntry} for writers.
  */
 public class TinylogLoggingConfiguration {
+
+	private static final Clock PRECISE_CLOCK = new PreciseClock();
+
+	private final Map<Writer, String> writingThreadGroups;
 	
 	public TinylogLoggingConfiguration() {
+		writingThreadGroups = new IdentityHashMap<Writer, String>();
 	}
 	
 	/**
@@ -48,6 +55,11 @@ public class TinylogLoggingConfiguration {
 	 * entries. The total number of entries is the number of defined tags plus two. The second dimension represents the
 	 * severity level. It starts with {@link Level#TRACE} and ends with {@link Level#ERROR}.
 	 *
+	 * <p>
+	 * Writers with a {@code thread} property are assigned to the writing thread of the same name, if the writing thread
+	 * is enabled.
+	 * </p>
+	 *
 	 * @param tags
 	 *            Order of defined tags
 	 * @param minimumLevel
@@ -89,6 +101,11 @@ public class TinylogLoggingConfiguration {
 
 			Writer writer = loader.create(entry.getValue(), configuration);
 			if (writer != null) {
+				String group = configuration.get("thread");
+				if (group != null && !group.trim().isEmpty()) {
+					writingThreadGroups.put(writer, group.trim());
+				}
+
 				if (tag == null || tag.isEmpty()) {
 					for (int tagIndex = 0; tagIndex < matrix.length; ++tagIndex) {
 						addWriter(writer, matrix, tagIndex, level);
@@ -195,18 +212,43 @@ public class TinylogLoggingConfiguration {
 		return logEntryValues;
 	}
 
+	/**
+	 * Converts a matrix of required log entry values into a matrix of bitmasks. The bit of a log entry value is
+	 * {@code 1 << value.ordinal()}, see {@link #isRequired(int, LogEntryValue)}.
+	 *
+	 * @param logEntryValues
+	 *            Matrix with required log entry values
+	 * @return Matrix with bitmasks of required log entry values
+	 */
+	public int[][] calculateRequiredLogEntryValueMasks(final Collection<LogEntryValue>[][] logEntryValues) {
+		int[][] masks = new int[logEntryValues.length][];
+
+		for (int tagIndex = 0; tagIndex < logEntryValues.length; ++tagIndex) {
+			masks[tagIndex] = new int[logEntryValues[tagIndex].length];
+			for (int levelIndex = 0; levelIndex < logEntryValues[tagIndex].length; ++levelIndex) {
+				masks[tagIndex][levelIndex] = toMask(logEntryValues[tagIndex][levelIndex]);
+			}
+		}
+
+		return masks;
+	}
+
 	/**
 	 * Calculates for which tag a full stack trace element with method name, file name and line number is required.
 	 *
 	 * @param logEntryValues
 	 *            Matrix with required log entry values
 	 * @return Each set bit represents a tag that requires a full stack trace element
+	 *
+	 * @deprecated Replaced by {@link #calculateRequiredLogEntryValueMasks(Collection[][])}, which allows to check the
+	 *             requirement for each severity level separately
 	 */
+	@Deprecated
 	public BitSet calculateFullStackTraceRequirements(final Collection<LogEntryValue>[][] logEntryValues) {
-		BitSet result = new BitSet(logEntryValues.length);
-		for (int i = 0; i < logEntryValues.length; ++i) {
-			Collection<LogEntryValue> values = logEntryValues[i][Level.ERROR.ordinal()];
-			if (values.contains(LogEntryValue.METHOD) || values.contains(LogEntryValue.FILE) || values.contains(LogEntryValue.LINE)) {
+		int[][] masks = calculateRequiredLogEntryValueMasks(logEntryValues);
+		BitSet result = new BitSet(masks.length);
+		for (int i = 0; i < masks.length; ++i) {
+			if (isFullStackTraceRequired(masks[i][Level.ERROR.ordinal()])) {
 				result.set(i);
 			}
 		}
@@ -214,19 +256,85 @@ public class TinylogLoggingConfiguration {
 	}
 
 	/**
-	 * Creates a writing thread for a matrix of writers.
+	 * Creates a writing thread for a matrix of writers. The size of the queue can be configured via the property
+	 * {@code writingthread.queue.size}, the handling of a full queue via the property {@code writingthread.overflow},
+	 * and the waiting for new log entries via the property {@code writingthread.wait}.
 	 *
 	 * @param matrix
 	 *            All writers
 	 * @return Initialized and running writhing thread
 	 */
 	public WritingThread createWritingThread(final Collection<Writer>[][] matrix) {
-		Collection<Writer> writers = getAllWriters(matrix);
-		WritingThread thread = new WritingThread(writers);
+		WritingThread thread = createWritingThread(getAllWriters(matrix));
 		thread.start();
 		return thread;
 	}
-	
+
+	/**
+	 * Creates writing threads for a matrix of writers. All writers with the same {@code thread} property share one
+	 * writing thread. Writers without a {@code thread} property share the default writing thread. Each writing thread
+	 * has its own queue, which is configured like the queue of {@link #createWritingThread(Collection[][])}.
+	 *
+	 * @param matrix
+	 *            All writers
+	 * @return Initialized and running writing threads, starting with the default writing thread followed by all named
+	 *         writing threads in alphabetical order
+	 */
+	public List<WritingThread> createWritingThreads(final Collection<Writer>[][] matrix) {
+		Collection<Writer> defaultWriters = new ArrayList<Writer>();
+		Map<String, Collection<Writer>> groupedWriters = new TreeMap<String, Collection<Writer>>();
+
+		for (Writer writer : getAllWriters(matrix)) {
+			String group = writingThreadGroups.get(writer);
+			if (group == null) {
+				defaultWriters.add(writer);
+			} else {
+				Collection<Writer> writers = groupedWriters.get(group);
+				if (writers == null) {
+					writers = new ArrayList<Writer>();
+					groupedWriters.put(group, writers);
+				}
+				writers.add(writer);
+			}
+		}
+
+		List<WritingThread> threads = new ArrayList<WritingThread>(groupedWriters.size() + 1);
+
+		if (!defaultWriters.isEmpty() || groupedWriters.isEmpty()) {
+			threads.add(createWritingThread(defaultWriters));
+		}
+
+		for (Entry<String, Collection<Writer>> entry : groupedWriters.entrySet()) {
+			WritingThread thread = createWritingThread(entry.getValue());
+			thread.setName(thread.getName() + "-" + entry.getKey());
+			threads.add(thread);
+		}
+
+		for (WritingThread thread : threads) {
+			thread.start();
+		}
+
+		return threads;
+	}
+
+	/**
+	 * Creates a clock for the timestamps of log entries.
+	 *
+	 * @param mode
+	 *            Source for the timestamps
+	 * @return Initialized and running clock
+	 */
+	static Clock createClock(final ClockMode mode) {
+		switch (mode) {
+			case CACHED:
+				return new CachedClock();
+			case NANOTIME_ANCHORED:
+				return new AnchoredClock();
+			default:
+				return new PreciseClock();
+		}
+	}
+
 	/**
 	 * Collects all writer instances from a matrix of writers.
 	 *
@@ -271,11 +379,45 @@ public class TinylogLoggingConfiguration {
 		final Level level, final Throwable exception, final MessageFormatter formatter, final Object obj,
 		final Object[] arguments, final Collection<LogEntryValue>[] requiredLogEntryValues, 
 		final TinylogContextProvider contextProvider) {
-		Collection<LogEntryValue> required = requiredLogEntryValues[level.ordinal()];
+		int required = toMask(requiredLogEntryValues[level.ordinal()]);
+		return createLogEntry(stackTraceElement, tag, level, exception, formatter, obj, arguments, required,
+			contextProvider, PRECISE_CLOCK, null);
+	}
 
-		Timestamp timestamp = RuntimeProvider.createTimestamp();
-		Thread thread = required.contains(LogEntryValue.THREAD) ? Thread.currentThread() : null;
-		Map<String, String> context = required.contains(LogEntryValue.CONTEXT) ? contextProvider.getMapping() : null;
+	/**
+	 * Creates a new log entry.
+	 *
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param level
+	 *            Severity level
+	 * @param exception
+	 *            Caught exception or throwable to log
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 * @param required
+	 *            Bitmask of the required log entry values for the used tag and severity level
+	 * @param contextProvider
+	 *            The context provider
+	 * @param clock
+	 *            Source for the timestamp
+	 * @param deferrableTypes
+	 *            Argument types that are safe for deferred formatting or {@code null} for formatting always immediately
+	 * @return Filled log entry
+	 */
+	static LogEntry createLogEntry(final StackTraceElement stackTraceElement, final String tag, final Level level,
+		final Throwable exception, final MessageFormatter formatter, final Object obj, final Object[] arguments,
+		final int required, final TinylogContextProvider contextProvider, final Clock clock,
+		final DeferrableArgumentTypes deferrableTypes) {
+		Timestamp timestamp = clock.createTimestamp();
+		Thread thread = isRequired(required, LogEntryValue.THREAD) ? Thread.currentThread() : null;
+		Map<String, String> context = isRequired(required, LogEntryValue.CONTEXT) ? contextProvider.getMapping() : null;
 
 		String className;
 		String methodName;
@@ -297,6 +439,11 @@ public class TinylogLoggingConfiguration {
 		if (arguments == null || arguments.length == 0) {
 			Object evaluatedObject = obj instanceof Supplier<?> ? ((Supplier<?>) obj).get() : obj;
 			message = evaluatedObject == null ? null : evaluatedObject.toString();
+		} else if (deferrableTypes != null && deferrableTypes.isDeferrable(arguments)) {
+			LogEntry logEntry = new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag,
+				level, null, exception);
+			logEntry.setDeferredMessage(formatter, (String) obj, arguments.clone());
+			return logEntry;
 		} else {
 			message = formatter.format((String) obj, arguments);
 		}
@@ -304,4 +451,126 @@ public class TinylogLoggingConfiguration {
 		return new LogEntry(timestamp, thread, context, className, methodName, fileName, lineNumber, tag, level, message, exception);
 	}
 
+	/**
+	 * Fills a reusable log entry for garbage-free mode. In contrast to {@link #createLogEntry createLogEntry()}, the
+	 * timestamp is updated in place and the text message is formatted directly into the string builder of the log
+	 * entry.
+	 *
+	 * @param logEntry
+	 *            Reusable log entry to fill
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param level
+	 *            Severity level
+	 * @param exception
+	 *            Caught exception or throwable to log
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 * @param required
+	 *            Bitmask of the required log entry values for the used tag and severity level
+	 * @param contextProvider
+	 *            The context provider
+	 * @param clock
+	 *            Source for the timestamp
+	 */
+	static void fillLogEntry(final LogEntry logEntry, final StackTraceElement stackTraceElement, final String tag,
+		final Level level, final Throwable exception, final MessageFormatter formatter, final Object obj,
+		final Object[] arguments, final int required, final TinylogContextProvider contextProvider, final Clock clock) {
+		Thread thread = isRequired(required, LogEntryValue.THREAD) ? Thread.currentThread() : null;
+		Map<String, String> context = isRequired(required, LogEntryValue.CONTEXT) ? contextProvider.getMapping() : null;
+
+		if (stackTraceElement == null) {
+			logEntry.reset(thread, context, null, null, null, -1, tag, level, exception);
+		} else {
+			logEntry.reset(thread, context, stackTraceElement.getClassName(), stackTraceElement.getMethodName(),
+				stackTraceElement.getFileName(), stackTraceElement.getLineNumber(), tag, level, exception);
+		}
+
+		logEntry.getReusableTimestamp().setNanoseconds(clock.currentTimeNanos());
+
+		StringBuilder builder = logEntry.getMessageBuilder();
+		if (arguments == null || arguments.length == 0) {
+			Object evaluatedObject = obj instanceof Supplier<?> ? ((Supplier<?>) obj).get() : obj;
+			if (evaluatedObject == null) {
+				return;
+			} else if (evaluatedObject instanceof CharSequence) {
+				builder.append((CharSequence) evaluatedObject);
+			} else {
+				builder.append(evaluatedObject.toString());
+			}
+		} else if (formatter instanceof AbstractMessageFormatter) {
+			AbstractMessageFormatter messageFormatter = (AbstractMessageFormatter) formatter;
+			messageFormatter.format((String) obj, arguments, builder);
+		} else {
+			builder.append(formatter.format((String) obj, arguments));
+		}
+
+		logEntry.commitMessage();
+	}
+
+	/**
+	 * Checks whether a log entry value is contained in a bitmask of required log entry values.
+	 *
+	 * @param mask
+	 *            Bitmask of required log entry values
+	 * @param value
+	 *            Log entry value to check
+	 * @return {@code true} if the log entry value is required, otherwise {@code false}
+	 */
+	static boolean isRequired(final int mask, final LogEntryValue value) {
+		return (mask & 1 << value.ordinal()) != 0;
+	}
+
+	/**
+	 * Checks whether a full stack trace element with method name, file name, or line number is required by a bitmask
+	 * of required log entry values.
+	 *
+	 * @param mask
+	 *            Bitmask of required log entry values
+	 * @return {@code true} if a full stack trace element is required, otherwise {@code false}
+	 */
+	static boolean isFullStackTraceRequired(final int mask) {
+		return isRequired(mask, LogEntryValue.METHOD) || isRequired(mask, LogEntryValue.FILE)
+			|| isRequired(mask, LogEntryValue.LINE);
+	}
+
+	/**
+	 * Converts a collection of log entry values into a bitmask.
+	 *
+	 * @param values
+	 *            Log entry values
+	 * @return Bitmask with the bits of all passed log entry values
+	 */
+	private static int toMask(final Collection<LogEntryValue> values) {
+		int mask = 0;
+		for (LogEntryValue value : values) {
+			mask |= 1 << value.ordinal();
+		}
+		return mask;
+	}
+
+	/**
+	 * Creates a writing thread for a collection of writers without starting it.
+	 *
+	 * @param writers
+	 *            Writers to serve
+	 * @return Initialized writing thread
+	 */
+	private static WritingThread createWritingThread(final Collection<Writer> writers) {
+		return new WritingThread(
+			writers,
+			ConfigurationParser.getWritingThreadQueueSize(),
+			ConfigurationParser.getWritingThreadOverflowPolicy(),
+			ConfigurationParser.getWritingThreadOverflowLevel(),
+			ConfigurationParser.getWritingThreadWaitStrategy(),
+			ConfigurationParser.getWritingThreadBatchWindow()
+		);
+	}
+
 }
@@ -13,50 +13,80 @@
 
 package org.tinylog.core;
 
-import java.util.BitSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.tinylog.Level;
 import org.tinylog.format.MessageFormatter;
 import org.tinylog.provider.ContextProvider;
 import org.tinylog.provider.InternalLogger;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.LocationAwareLoggingProvider;
 import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.writers.Writer;
 
 /**
  * tinylog's native logging provider implementation.
  */
-public class TinylogLoggingProvider implements LoggingProvider {
+public class TinylogLoggingProvider implements LocationAwareLoggingProvider {
+
+	private static final int MAX_CACHED_CLASS_LEVELS = 4096;
 
 	private final TinylogContextProvider context;
 	private final Level globalLevel;
 	private final Map<String, Level> customLevels;
+	private final ConcurrentMap<String, Level> classLevels;
 	private final List<String> knownTags;
+	private final Map<String, Integer> tagIndices;
 	private final Collection<Writer>[][] writers;
-	private final Collection<LogEntryValue>[][] requiredLogEntryValues;
-	private final BitSet fullStackTraceRequired;
-	private final WritingThread writingThread;
+	private final int[][] requiredLogEntryValues;
+	private final boolean lazyLocation;
+	private final List<WritingThread> writingThreads;
+	private final Collection<Writer>[][][] writingThreadWriters;
+	private final ThreadLocal<LogEntry> reusableLogEntries;
+	private final Clock clock;
+	private final DeferrableArgumentTypes deferrableTypes;
 
 	/** */
 	public TinylogLoggingProvider() {
 		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
-		context = new TinylogContextProvider();
+		boolean virtualThreadMode = ConfigurationParser.isVirtualThreadModeEnabled();
+		if (virtualThreadMode && !isVirtualThreadSupported()) {
+			InternalLogger.log(Level.WARN, "Virtual thread mode is enabled, but virtual threads are not supported by the JVM");
+		}
+
+		context = new TinylogContextProvider(!virtualThreadMode);
 		globalLevel = ConfigurationParser.getGlobalLevel();
 		customLevels = ConfigurationParser.getCustomLevels();
+		classLevels = new ConcurrentHashMap<String, Level>();
 		knownTags = ConfigurationParser.getTags();
+		tagIndices = createTagIndices(knownTags);
 
 		Level minimumLevel = config.calculateMinimumLevel(globalLevel, customLevels);
 		boolean hasWritingThread = ConfigurationParser.isWritingThreadEnabled();
 
 		writers = config.createWriters(knownTags, minimumLevel, hasWritingThread);
-		requiredLogEntryValues = config.calculateRequiredLogEntryValues(writers);
-		fullStackTraceRequired = config.calculateFullStackTraceRequirements(requiredLogEntryValues);
-		writingThread = hasWritingThread ? config.createWritingThread(writers) : null;
+		Collection<LogEntryValue>[][] logEntryValues = config.calculateRequiredLogEntryValues(writers);
+		requiredLogEntryValues = config.calculateRequiredLogEntryValueMasks(logEntryValues);
+		lazyLocation = hasWritingThread && ConfigurationParser.isLazyLocationEnabled();
+		writingThreads = hasWritingThread ? config.createWritingThreads(writers) : null;
+		writingThreadWriters = hasWritingThread ? distributeWriters(writers, writingThreads) : null;
+		reusableLogEntries = ConfigurationParser.isGarbageFreeModeEnabled() ? new ReusableLogEntryThreadLocal() : null;
+		clock = TinylogLoggingConfiguration.createClock(ConfigurationParser.getClockMode());
+
+		if (hasWritingThread && ConfigurationParser.isDeferredFormattingEnabled()) {
+			deferrableTypes = new DeferrableArgumentTypes(ConfigurationParser.getDeferrableArgumentTypes());
+		} else {
+			deferrableTypes = null;
+		}
 
 		if (ConfigurationParser.isAutoShutdownEnabled()) {
 			Runtime.getRuntime().addShutdownHook(new Thread() {
@@ -103,6 +133,10 @@ public class TinylogLoggingProvider implements LoggingProvider {
 
 	@Override
 	public boolean isEnabled(final int depth, final String tag, final Level level) {
+		if (writers[getTagIndex(tag)][level.ordinal()].isEmpty()) {
+			return false;
+		}
+
 		Level activeLevel;
 
 		if (customLevels.isEmpty()) {
@@ -112,24 +146,32 @@ public class TinylogLoggingProvider implements LoggingProvider {
 			activeLevel = getLevel(className);
 		}
 
-		return activeLevel.ordinal() <= level.ordinal() && writers[getTagIndex(tag)][level.ordinal()].size() > 0;
+		return activeLevel.ordinal() <= level.ordinal();
 	}
 
 	@Override
 	public void log(final int depth, final String tag, final Level level, final Throwable exception, final MessageFormatter formatter,
 		final Object obj, final Object... arguments) {
 		int tagIndex = getTagIndex(tag);
+		if (writers[tagIndex][level.ordinal()].isEmpty()) {
+			return;
+		}
 
-		StackTraceElement stackTraceElement;
-		if (fullStackTraceRequired.get(tagIndex)) {
-			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(depth + 1);
-		} else {
-			stackTraceElement = null;
+		int required = requiredLogEntryValues[tagIndex][level.ordinal()];
+		StackTraceElement stackTraceElement = null;
+		Object stackFrame = null;
+		if (TinylogLoggingConfiguration.isFullStackTraceRequired(required)) {
+			if (lazyLocation && customLevels.isEmpty()) {
+				stackFrame = RuntimeProvider.getCallerStackFrame(depth + 1);
+			} else {
+				stackTraceElement = RuntimeProvider.getCallerStackTraceElement(depth + 1);
+			}
 		}
 
 		Level activeLevel;
 		if (customLevels.isEmpty()) {
-			if (stackTraceElement == null && requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
+			if (stackTraceElement == null && stackFrame == null
+				&& TinylogLoggingConfiguration.isRequired(required, LogEntryValue.CLASS)) {
 				stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(depth + 1), "<unknown>", null, -1);
 			}
 			activeLevel = globalLevel;
@@ -141,9 +183,7 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 
 		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter, 
-					obj, arguments, requiredLogEntryValues[tagIndex], context);
-			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			output(stackTraceElement, stackFrame, tag, tagIndex, required, level, exception, formatter, obj, arguments);
 		}
 	}
 
@@ -151,17 +191,25 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	public void log(final String loggerClassName, final String tag, final Level level, final Throwable exception,
 		final MessageFormatter formatter, final Object obj, final Object... arguments) {
 		int tagIndex = getTagIndex(tag);
+		if (writers[tagIndex][level.ordinal()].isEmpty()) {
+			return;
+		}
 
-		StackTraceElement stackTraceElement;
-		if (fullStackTraceRequired.get(tagIndex)) {
-			stackTraceElement = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
-		} else {
-			stackTraceElement = null;
+		int required = requiredLogEntryValues[tagIndex][level.ordinal()];
+		StackTraceElement stackTraceElement = null;
+		Object stackFrame = null;
+		if (TinylogLoggingConfiguration.isFullStackTraceRequired(required)) {
+			if (lazyLocation && customLevels.isEmpty()) {
+				stackFrame = RuntimeProvider.getCallerStackFrame(loggerClassName);
+			} else {
+				stackTraceElement = RuntimeProvider.getCallerStackTraceElement(loggerClassName);
+			}
 		}
 
 		Level activeLevel;
 		if (customLevels.isEmpty()) {
-			if (stackTraceElement == null && requiredLogEntryValues[tagIndex][level.ordinal()].contains(LogEntryValue.CLASS)) {
+			if (stackTraceElement == null && stackFrame == null
+				&& TinylogLoggingConfiguration.isRequired(required, LogEntryValue.CLASS)) {
 				stackTraceElement = new StackTraceElement(RuntimeProvider.getCallerClassName(loggerClassName), "<unknown>", null, -1);
 			}
 			activeLevel = globalLevel;
@@ -173,26 +221,156 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 
 		if (activeLevel.ordinal() <= level.ordinal()) {
-			LogEntry logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter,  
-					obj, arguments, requiredLogEntryValues[tagIndex], context);
-			output(logEntry, writers[tagIndex][logEntry.getLevel().ordinal()]);
+			output(stackTraceElement, stackFrame, tag, tagIndex, required, level, exception, formatter, obj, arguments);
+		}
+	}
+
+	@Override
+	public void log(final StackTraceElement location, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		int tagIndex = getTagIndex(tag);
+		if (writers[tagIndex][level.ordinal()].isEmpty()) {
+			return;
+		}
+
+		Level activeLevel = customLevels.isEmpty() ? globalLevel : getLevel(location.getClassName());
+		if (activeLevel.ordinal() <= level.ordinal()) {
+			int required = requiredLogEntryValues[tagIndex][level.ordinal()];
+			output(location, null, tag, tagIndex, required, level, exception, formatter, obj, arguments);
 		}
 	}
 
 	@Override
 	public void shutdown() throws InterruptedException {
-		if (writingThread == null) {
-			for (Writer writer : TinylogLoggingConfiguration.getAllWriters(writers)) {
-				try {
-					writer.close();
-				} catch (Exception ex) {
-					InternalLogger.log(Level.ERROR, ex, "Failed to close writer");
+		try {
+			if (writingThreads == null) {
+				for (Writer writer : TinylogLoggingConfiguration.getAllWriters(writers)) {
+					try {
+						writer.close();
+					} catch (Exception ex) {
+						InternalLogger.log(Level.ERROR, ex, "Failed to close writer");
+					}
+				}
+			} else {
+				for (WritingThread writingThread : writingThreads) {
+					writingThread.shutdown();
+				}
+				for (WritingThread writingThread : writingThreads) {
+					writingThread.join();
+				}
+			}
+		} finally {
+			// Log entries can be still issued while closing the writers, which require a running clock
+			clock.shutdown();
+		}
+	}
+
+	/**
+	 * Splits the matrix of writers into one matrix per writing thread. Each of these matrices contains only the
+	 * writers that are served by the corresponding writing thread. All collections are created once, so that they can
+	 * be passed to the writing threads without any further allocation.
+	 *
+	 * @param writers
+	 *            Matrix with all writers
+	 * @param writingThreads
+	 *            All writing threads
+	 * @return Matrix of writers for each writing thread in the same order as the passed writing threads
+	 */
+	private static Collection<Writer>[][][] distributeWriters(final Collection<Writer>[][] writers,
+		final List<WritingThread> writingThreads) {
+		Collection<Writer>[][][] result = createWriterCube(writingThreads.size());
+
+		if (result.length == 1) {
+			result[0] = writers;
+			return result;
+		}
+
+		for (int threadIndex = 0; threadIndex < result.length; ++threadIndex) {
+			Set<Writer> served = Collections.newSetFromMap(new IdentityHashMap<Writer, Boolean>());
+			served.addAll(writingThreads.get(threadIndex).getWriters());
+
+			result[threadIndex] = createWriterMatrix(writers.length);
+			for (int tagIndex = 0; tagIndex < writers.length; ++tagIndex) {
+				result[threadIndex][tagIndex] = createWriterArray(writers[tagIndex].length);
+				for (int levelIndex = 0; levelIndex < writers[tagIndex].length; ++levelIndex) {
+					Collection<Writer> collection = new ArrayList<Writer>();
+					for (Writer writer : writers[tagIndex][levelIndex]) {
+						if (served.contains(writer)) {
+							collection.add(writer);
+						}
+					}
+					result[threadIndex][tagIndex][levelIndex] = collection;
 				}
 			}
-		} else {
-			writingThread.shutdown();
-			writingThread.join();
 		}
+
+		return result;
+	}
+
+	/**
+	 * Creates a generic three-dimensional array for writer collections.
+	 *
+	 * @param length
+	 *            Length of first dimension
+	 * @return New array with the passed length
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Collection<Writer>[][][] createWriterCube(final int length) {
+		return new Collection[length][][];
+	}
+
+	/**
+	 * Creates a generic two-dimensional array for writer collections.
+	 *
+	 * @param length
+	 *            Length of first dimension
+	 * @return New array with the passed length
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Collection<Writer>[][] createWriterMatrix(final int length) {
+		return new Collection[length][];
+	}
+
+	/**
+	 * Creates a generic array for writer collections.
+	 *
+	 * @param length
+	 *            Length of array
+	 * @return New array with the passed length
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Collection<Writer>[] createWriterArray(final int length) {
+		return new Collection[length];
+	}
+
+	/**
+	 * Detects whether the JVM supports virtual threads.
+	 *
+	 * @return {@code true} if virtual threads are supported, otherwise {@code false}
+	 */
+	private static boolean isVirtualThreadSupported() {
+		try {
+			Thread.class.getMethod("isVirtual");
+			return true;
+		} catch (NoSuchMethodException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Creates a hash map that maps each known tag to its index. The index of a tag is its position in the passed list
+	 * plus one, as index zero is reserved for untagged log entries.
+	 *
+	 * @param tags
+	 *            Known tags
+	 * @return Indices of known tags
+	 */
+	private static Map<String, Integer> createTagIndices(final List<String> tags) {
+		Map<String, Integer> indices = new HashMap<String, Integer>();
+		for (int i = 0; i < tags.size(); ++i) {
+			indices.put(tags.get(i), i + 1);
+		}
+		return indices;
 	}
 
 	/**
@@ -206,8 +384,8 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		if (tag == null) {
 			return 0;
 		} else {
-			int index = knownTags.indexOf(tag);
-			return index == -1 ? knownTags.size() + 1 : index + 1;
+			Integer index = tagIndices.get(tag);
+			return index == null ? knownTags.size() + 1 : index;
 		}
 	}
 
@@ -215,11 +393,35 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	 * Gets the severity level for a class. If there is no custom severity level for the class or one of it's
 	 * (sub-)packages, the global severity level will be returned.
 	 *
+	 * <p>
+	 * Resolved severity levels are cached per class name. Therefore, the package hierarchy has to be walked only once
+	 * per class.
+	 * </p>
+	 *
 	 * @param className
 	 *            Fully-qualified class name
 	 * @return Severity level for given class
 	 */
 	private Level getLevel(final String className) {
+		Level level = classLevels.get(className);
+		if (level == null) {
+			level = resolveLevel(className);
+			if (classLevels.size() < MAX_CACHED_CLASS_LEVELS) {
+				classLevels.put(className, level);
+			}
+		}
+		return level;
+	}
+
+	/**
+	 * Resolves the severity level for a class by walking up its package hierarchy until a custom severity level is
+	 * found. If there is none, the global severity level will be returned.
+	 *
+	 * @param className
+	 *            Fully-qualified class name
+	 * @return Severity level for given class
+	 */
+	private Level resolveLevel(final String className) {
 		String key = className;
 		while (true) {
 			Level customLevel = customLevels.get(key);
@@ -237,16 +439,73 @@ public class TinylogLoggingProvider implements LoggingProvider {
 	}
 	
 	/**
-	 * Outputs a log entry to all passed writers.
+	 * Creates a log entry and outputs it. In garbage-free mode, the reusable log entry of the current thread is filled
+	 * instead of creating a new one. A new log entry is only created, if the reusable log entry is still in use by an
+	 * outer log statement, for example when a message argument issues a log entry itself while being formatted.
+	 *
+	 * @param stackTraceElement
+	 *            Optional stack trace element of caller
+	 * @param stackFrame
+	 *            Optional handle for the stack frame of caller that will be resolved lazily
+	 * @param tag
+	 *            Tag name if issued from a tagged logger
+	 * @param tagIndex
+	 *            Index of the tag
+	 * @param required
+	 *            Bitmask of the required log entry values for the tag and severity level
+	 * @param level
+	 *            Severity level
+	 * @param exception
+	 *            Caught exception or throwable to log
+	 * @param formatter
+	 *            Formatter for text message
+	 * @param obj
+	 *            Message to log
+	 * @param arguments
+	 *            Arguments for message
+	 */
+	private void output(final StackTraceElement stackTraceElement, final Object stackFrame, final String tag,
+		final int tagIndex, final int required, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object[] arguments) {
+		LogEntry logEntry = reusableLogEntries == null ? null : reusableLogEntries.get();
+
+		if (logEntry == null) {
+			logEntry = TinylogLoggingConfiguration.createLogEntry(stackTraceElement, tag, level, exception, formatter,
+				obj, arguments, required, context, clock, deferrableTypes);
+			if (stackFrame != null) {
+				logEntry.setStackFrame(stackFrame);
+			}
+			output(logEntry, tagIndex);
+		} else {
+			reusableLogEntries.set(null);
+			try {
+				TinylogLoggingConfiguration.fillLogEntry(logEntry, stackTraceElement, tag, level, exception, formatter,
+					obj, arguments, required, context, clock);
+				if (stackFrame != null) {
+					logEntry.setStackFrame(stackFrame);
+				}
+				output(logEntry, tagIndex);
+			} finally {
+				reusableLogEntries.set(logEntry);
+			}
+		}
+	}
+
+	/**
+	 * Outputs a log entry to all writers of a tag that are registered for the severity level of the log entry. If the
+	 * writing thread is enabled, the log entry is passed only once to each writing thread together with all its
+	 * writers.
 	 * 
 	 * @param logEntry
 	 *            Log entry to be output
-	 * @param writers
-	 *            All writers for outputting the passed log entry
+	 * @param tagIndex
+	 *            Index of the tag
 	 */
-	private void output(final LogEntry logEntry, final Iterable<Writer> writers) {
-		if (writingThread == null) {
-			for (Writer writer : writers) {
+	private void output(final LogEntry logEntry, final int tagIndex) {
+		int levelIndex = logEntry.getLevel().ordinal();
+
+		if (writingThreads == null) {
+			for (Writer writer : writers[tagIndex][levelIndex]) {
 				try {
 					writer.write(logEntry);
 				} catch (Exception ex) {
@@ -254,8 +513,11 @@ public class TinylogLoggingProvider implements LoggingProvider {
 				}
 			}
 		} else {
-			for (Writer writer : writers) {
-				writingThread.add(writer, logEntry);
+			for (int threadIndex = 0; threadIndex < writingThreadWriters.length; ++threadIndex) {
+				Collection<Writer> targets = writingThreadWriters[threadIndex][tagIndex][levelIndex];
+				if (!targets.isEmpty()) {
+					writingThreads.get(threadIndex).add(targets, logEntry);
+				}
 			}
 		}
 	}
@@ -315,6 +577,22 @@ public class TinylogLoggingProvider implements LoggingProvider {
 		}
 
 		return collectedWriters;
-	}	
+	}
+
+	/**
+	 * Thread local with one reusable log entry per thread for garbage-free mode.
+	 */
+	private static final class ReusableLogEntryThreadLocal extends ThreadLocal<LogEntry> {
+
+		/** */
+		private ReusableLogEntryThreadLocal() {
+		}
+
+		@Override
+		protected LogEntry initialValue() {
+			return new LogEntry();
+		}
+
+	}
 
 }
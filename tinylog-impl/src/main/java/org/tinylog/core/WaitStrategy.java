@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+/**
+ * Enumerated strategies for waiting for new log entries if the queue of the {@link WritingThread} is empty.
+ */
+public enum WaitStrategy {
+
+	/**
+	 * Polls the queue in a fixed interval of 10 milliseconds.
+	 */
+	SLEEP,
+
+	/**
+	 * Parks until a producer signals a new log entry.
+	 */
+	PARK,
+
+	/**
+	 * Spins and yields for a short while before parking until a producer signals a new log entry. This strategy has
+	 * the lowest latency but burns CPU time after each batch.
+	 */
+	SPIN,
+
+	/**
+	 * Parks until a producer signals a new log entry and waits a configurable time window afterwards for collecting
+	 * further log entries. This strategy reduces the number of flushes.
+	 */
+	BATCH;
+
+}
@@ -16,7 +16,11 @@ package org.tinylog.core;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
@@ -27,21 +31,66 @@ import org.tinylog.writers.Writer;
  */
 public final class WritingThread extends Thread {
 
+	/**
+	 * Default maximum number of log entries that can be queued.
+	 */
+	static final int DEFAULT_QUEUE_SIZE = 16384;
+
+	/**
+	 * Default time window in milliseconds for collecting log entries for {@link WaitStrategy#BATCH}.
+	 */
+	static final long DEFAULT_BATCH_WINDOW = 1L;
+
 	private static final String THREAD_NAME = "tinylog-WritingThread";
 	private static final long MILLISECONDS_TO_SLEEP = 10L;
+	private static final long NANOSECONDS_TO_WAIT_FOR_FREE_SLOT = 100000L;
+	private static final int SPIN_ITERATIONS = 1000;
+	private static final int YIELD_ITERATIONS = 100;
 
-	private final Object mutex;
+	private final Lock lock;
 	private final Collection<Writer> writers;
-	private List<Task> tasks;
+	private final RingBuffer buffer;
+	private final OverflowPolicy overflowPolicy;
+	private final Level overflowLevel;
+	private final WaitStrategy waitStrategy;
+	private final long batchWindow;
+	private final AtomicLong discarded;
+
+	private volatile boolean parking;
+	private volatile boolean terminated;
 
 	/**
 	 * @param writers
 	 *            Open writers
 	 */
 	WritingThread(final Collection<Writer> writers) {
-		this.mutex = new Object();
+		this(writers, DEFAULT_QUEUE_SIZE, OverflowPolicy.BLOCK, Level.OFF, WaitStrategy.SLEEP, DEFAULT_BATCH_WINDOW);
+	}
+
+	/**
+	 * @param writers
+	 *            Open writers
+	 * @param queueSize
+	 *            Maximum number of log entries that can be queued (will be rounded up to the next power of two)
+	 * @param overflowPolicy
+	 *            Strategy for new log entries if the queue is full
+	 * @param overflowLevel
+	 *            Log entries with a lower severity level are discarded for {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 * @param waitStrategy
+	 *            Strategy for waiting for new log entries if the queue is empty
+	 * @param batchWindow
+	 *            Time window in milliseconds for collecting log entries for {@link WaitStrategy#BATCH}
+	 */
+	WritingThread(final Collection<Writer> writers, final int queueSize, final OverflowPolicy overflowPolicy,
+		final Level overflowLevel, final WaitStrategy waitStrategy, final long batchWindow) {
+		this.lock = new ReentrantLock();
 		this.writers = writers;
-		this.tasks = new ArrayList<Task>();
+		this.buffer = new RingBuffer(queueSize);
+		this.overflowPolicy = overflowPolicy;
+		this.overflowLevel = overflowLevel;
+		this.waitStrategy = waitStrategy;
+		this.batchWindow = TimeUnit.MILLISECONDS.toNanos(batchWindow);
+		this.discarded = new AtomicLong();
 
 		setName(THREAD_NAME);
 		setPriority(Thread.MIN_PRIORITY);
@@ -56,28 +105,48 @@ public final class WritingThread extends Thread {
 		Collection<Writer> writers = new ArrayList<Writer>(1);
 
 		while (true) {
-			for (Task task : receiveTasks()) {
-				if (task == Task.POISON) {
-					close();
-					return;
-				} else {
-					write(writers, task);
-				}
-			}
+			lock.lock();
+			try {
+				for (int count = buffer.getCapacity(); count > 0; --count) {
+					long sequence = buffer.peek();
+					if (sequence < 0) {
+						break;
+					} else if (!buffer.take(sequence)) {
+						continue; // Slot has been discarded by a producer in the meantime
+					}
 
-			flush(writers);
-			writers.clear();
+					Collection<Writer> targets = buffer.getWriters(sequence);
+					LogEntry logEntry = buffer.getLogEntry(sequence);
 
-			try {
-				sleep(MILLISECONDS_TO_SLEEP);
-			} catch (InterruptedException ex) {
-				// Ignore and continue
+					try {
+						if (targets == null) {
+							terminated = true;
+							close();
+							reportDiscardedLogEntries();
+							return;
+						} else {
+							for (Writer writer : targets) {
+								write(writers, writer, logEntry);
+							}
+						}
+					} finally {
+						buffer.release(sequence);
+					}
+				}
+
+				flush(writers);
+				writers.clear();
+			} finally {
+				lock.unlock();
 			}
+
+			await();
 		}
 	}
 
 	/**
-	 * Adds a log entry for writing.
+	 * Adds a log entry for writing. If the queue is full, the configured {@link OverflowPolicy} is applied. Log entries
+	 * that are added after shutting down the writing thread will be discarded.
 	 *
 	 * @param writer
 	 *            Writer to write given log entry
@@ -85,12 +154,66 @@ public final class WritingThread extends Thread {
 	 *            Log entry to write
 	 */
 	public void add(final Writer writer, final LogEntry logEntry) {
-		Task task = new Task(writer, logEntry);
-		synchronized (mutex) {
-			tasks.add(task);
+		add(Collections.singletonList(writer), logEntry);
+	}
+
+	/**
+	 * Adds a log entry for writing by multiple writers. The log entry occupies only one slot in the queue,
+	 * independent of the number of writers. If the queue is full, the configured {@link OverflowPolicy} is applied.
+	 * Log entries that are added after shutting down the writing thread will be discarded. Reusable log entries from
+	 * garbage-free mode are copied into the queue and can be recycled as soon as this method returns.
+	 *
+	 * @param writers
+	 *            Writers to write given log entry (must not be modified afterwards)
+	 * @param logEntry
+	 *            Log entry to write
+	 */
+	public void add(final Collection<Writer> writers, final LogEntry logEntry) {
+		if (buffer.offer(writers, logEntry)) {
+			signal();
+		} else {
+			switch (overflowPolicy) {
+				case DROP_NEWEST:
+					discard();
+					break;
+				case DROP_OLDEST:
+					replaceOldest(writers, logEntry);
+					break;
+				case DROP_BELOW_LEVEL:
+					if (logEntry.getLevel().ordinal() < overflowLevel.ordinal()) {
+						discard();
+					} else {
+						enqueue(writers, logEntry);
+					}
+					break;
+				case SYNC:
+					writeSynchronously(writers, logEntry);
+					break;
+				default:
+					enqueue(writers, logEntry);
+					break;
+			}
 		}
 	}
 
+	/**
+	 * Gets all writers that are served by this writing thread.
+	 *
+	 * @return Served writers
+	 */
+	Collection<Writer> getWriters() {
+		return writers;
+	}
+
+	/**
+	 * Gets the number of log entries that have been discarded because the queue was full.
+	 *
+	 * @return Number of discarded log entries
+	 */
+	public long getDiscardedLogEntries() {
+		return discarded.get();
+	}
+
 	/**
 	 * Shuts this writing thread down after writing all already added log entries.
 	 *
@@ -100,27 +223,149 @@ public final class WritingThread extends Thread {
 	 * </p>
 	 */
 	public void shutdown() {
-		synchronized (mutex) {
-			tasks.add(Task.POISON);
+		enqueue(null, null);
+		LockSupport.unpark(this);
+	}
+
+	/**
+	 * Adds a task to the ring buffer and waits for a free slot if necessary. A {@code null} collection of writers
+	 * represents the poison task for shutting down.
+	 *
+	 * @param writers
+	 *            Writers to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 */
+	private void enqueue(final Collection<Writer> writers, final LogEntry logEntry) {
+		while (!buffer.offer(writers, logEntry)) {
+			if (terminated) {
+				return;
+			}
+
+			LockSupport.unpark(this);
+			LockSupport.parkNanos(this, NANOSECONDS_TO_WAIT_FOR_FREE_SLOT);
 		}
 
-		interrupt();
+		signal();
 	}
 
 	/**
-	 * Receives all added log entries.
+	 * Adds a task to the ring buffer and discards the oldest queued log entries as long as there is no free slot.
 	 *
-	 * @return Log entries to write
+	 * @param writers
+	 *            Writers to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
 	 */
-	private List<Task> receiveTasks() {
-		synchronized (mutex) {
-			if (tasks.isEmpty()) {
-				return Collections.emptyList();
+	private void replaceOldest(final Collection<Writer> writers, final LogEntry logEntry) {
+		do {
+			if (terminated) {
+				return;
+			} else if (buffer.discardOldest()) {
+				discard();
 			} else {
-				List<Task> currentTasks = tasks;
-				tasks = new ArrayList<Task>();
-				return currentTasks;
+				Thread.yield();
 			}
+		} while (!buffer.offer(writers, logEntry));
+
+		signal();
+	}
+
+	/**
+	 * Writes a log entry in the current thread. The writing thread is blocked meanwhile.
+	 *
+	 * @param writers
+	 *            Writers to write given log entry
+	 * @param logEntry
+	 *            Log entry to write
+	 */
+	private void writeSynchronously(final Collection<Writer> writers, final LogEntry logEntry) {
+		lock.lock();
+		try {
+			if (!terminated) {
+				for (Writer writer : writers) {
+					try {
+						writer.write(logEntry);
+					} catch (Exception ex) {
+						InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
+					}
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Wakes up the writing thread, if it is parking until a new log entry is available.
+	 */
+	private void signal() {
+		if (parking) {
+			LockSupport.unpark(this);
+		}
+	}
+
+	/**
+	 * Waits for new log entries according to the configured {@link WaitStrategy}.
+	 */
+	private void await() {
+		switch (waitStrategy) {
+			case PARK:
+				park();
+				break;
+			case SPIN:
+				for (int i = 0; i < SPIN_ITERATIONS; ++i) {
+					if (buffer.peek() >= 0) {
+						return;
+					}
+				}
+				for (int i = 0; i < YIELD_ITERATIONS; ++i) {
+					if (buffer.peek() >= 0) {
+						return;
+					}
+					Thread.yield();
+				}
+				park();
+				break;
+			case BATCH:
+				park();
+				LockSupport.parkNanos(this, batchWindow);
+				break;
+			default:
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(MILLISECONDS_TO_SLEEP));
+				break;
+		}
+	}
+
+	/**
+	 * Parks until a producer signals a new log entry. The queue is checked after announcing to park, so that a
+	 * concurrently added log entry cannot be missed.
+	 */
+	private void park() {
+		parking = true;
+		if (buffer.peek() < 0) {
+			LockSupport.park(this);
+		}
+		parking = false;
+	}
+
+	/**
+	 * Counts a discarded log entry.
+	 */
+	private void discard() {
+		if (!terminated) {
+			discarded.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Reports the number of discarded log entries, if there are any.
+	 */
+	private void reportDiscardedLogEntries() {
+		long count = discarded.get();
+		if (count > 0) {
+			InternalLogger.log(Level.WARN, count + " log entries have been discarded, because the queue of the writing"
+				+ " thread was full");
 		}
 	}
 
@@ -129,18 +374,19 @@ public final class WritingThread extends Thread {
 	 *
 	 * @param writers
 	 *            Mutable collection of used writers
-	 * @param task
+	 * @param writer
+	 *            Writer to write given log entry
+	 * @param logEntry
 	 *            Log entry to write
 	 */
-	private void write(final Collection<Writer> writers, final Task task) {
+	private void write(final Collection<Writer> writers, final Writer writer, final LogEntry logEntry) {
 		try {
-			Writer writer = task.writer;
-			writer.write(task.logEntry);
+			writer.write(logEntry);
 			if (!writers.contains(writer)) {
 				writers.add(writer);
 			}
 		} catch (Exception ex) {
-			InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + task.logEntry.getMessage() + "'");
+			InternalLogger.log(Level.ERROR, ex, "Failed to write log entry '" + logEntry.getMessage() + "'");
 		}
 	}
 
@@ -173,27 +419,4 @@ public final class WritingThread extends Thread {
 		}
 	}
 
-	/**
-	 * Tuple that contains a log entry and a writer for outputting it.
-	 */
-	private static final class Task {
-
-		private static final Task POISON = null;
-
-		private final Writer writer;
-		private final LogEntry logEntry;
-
-		/**
-		 * @param writer
-		 *            Writer for outputting log entry
-		 * @param logEntry
-		 *            Log entry to write
-		 */
-		Task(final Writer writer, final LogEntry logEntry) {
-			this.writer = writer;
-			this.logEntry = logEntry;
-		}
-
-	}
-
 }
@@ -15,17 +15,26 @@ package org.tinylog.pattern;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.List;
 
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
 
 /**
  * Bundler for combining multiple tokens to one.
+ *
+ * <p>
+ * The passed tokens are compiled into a flat render program: Nested bundles are inlined and the texts of adjacent
+ * {@link PlainTextToken PlainTextTokens} are merged into a single literal. Rendering appends these literals directly
+ * and calls only the remaining dynamic tokens.
+ * </p>
  */
 final class BundleToken implements Token {
 
+	private final String[] literals;
 	private final Token[] tokens;
 
 	/**
@@ -33,7 +42,31 @@ final class BundleToken implements Token {
 	 *            Base tokens
 	 */
 	BundleToken(final Collection<Token> tokens) {
-		this.tokens = tokens.toArray(new Token[0]);
+		List<String> literals = new ArrayList<String>();
+		List<Token> steps = new ArrayList<Token>();
+		StringBuilder text = new StringBuilder();
+
+		for (Token token : tokens) {
+			if (token instanceof PlainTextToken) {
+				text.append(((PlainTextToken) token).getText());
+			} else if (token instanceof BundleToken) {
+				BundleToken bundle = (BundleToken) token;
+				for (int i = 0; i < bundle.tokens.length; ++i) {
+					append(text, bundle.literals[i]);
+					literals.add(flush(text));
+					steps.add(bundle.tokens[i]);
+				}
+				append(text, bundle.literals[bundle.tokens.length]);
+			} else {
+				literals.add(flush(text));
+				steps.add(token);
+			}
+		}
+
+		literals.add(flush(text));
+
+		this.literals = literals.toArray(new String[0]);
+		this.tokens = steps.toArray(new Token[0]);
 	}
 
 	@Override
@@ -48,8 +81,17 @@ final class BundleToken implements Token {
 	@Override
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
 		for (int i = 0; i < tokens.length; ++i) {
+			String literal = literals[i];
+			if (literal != null) {
+				builder.append(literal);
+			}
 			tokens[i].render(logEntry, builder);
 		}
+
+		String literal = literals[tokens.length];
+		if (literal != null) {
+			builder.append(literal);
+		}
 	}
 
 	@Override
@@ -59,4 +101,35 @@ final class BundleToken implements Token {
 		statement.setString(index, builder.toString());
 	}
 
+	/**
+	 * Appends an optional literal to a text.
+	 *
+	 * @param text
+	 *            Target text
+	 * @param literal
+	 *            Literal to append or {@code null}
+	 */
+	private static void append(final StringBuilder text, final String literal) {
+		if (literal != null) {
+			text.append(literal);
+		}
+	}
+
+	/**
+	 * Takes the collected text as literal and clears the passed string builder.
+	 *
+	 * @param text
+	 *            Collected text
+	 * @return Collected text or {@code null} if empty
+	 */
+	private static String flush(final StringBuilder text) {
+		if (text.length() == 0) {
+			return null;
+		} else {
+			String literal = text.toString();
+			text.setLength(0);
+			return literal;
+		}
+	}
+
 }
@@ -22,6 +22,7 @@ import java.util.Locale;
 import org.tinylog.configuration.Configuration;
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
+import org.tinylog.runtime.AppendingTimestampFormatter;
 import org.tinylog.runtime.RuntimeProvider;
 import org.tinylog.runtime.TimestampFormatter;
 
@@ -59,7 +60,11 @@ final class DateToken implements Token {
 
 	@Override
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
-		builder.append(formatter.format(logEntry.getTimestamp()));
+		if (formatter instanceof AppendingTimestampFormatter) {
+			((AppendingTimestampFormatter) formatter).format(logEntry.getTimestamp(), builder);
+		} else {
+			builder.append(formatter.format(logEntry.getTimestamp()));
+		}
 	}
 
 	@Override
@@ -50,7 +50,7 @@ final class MessageAndExceptionToken implements Token {
 		messageToken.render(logEntry, builder);
 
 		if (logEntry.getException() != null) {
-			if (logEntry.getMessage() != null) {
+			if (logEntry.getMessageAsCharSequence() != null) {
 				builder.append(": ");
 			}
 			exceptionToken.render(logEntry, builder);
@@ -39,33 +39,27 @@ final class MessageToken implements Token {
 
 	@Override
 	public void render(final LogEntry logEntry, final StringBuilder builder) {
-		String message = logEntry.getMessage();
+		CharSequence message = logEntry.getMessageAsCharSequence();
 
 		if (message != null) {
-			int cartridgeReturn = message.indexOf('\r');
-			int lineFeed = message.indexOf('\n');
+			int length = message.length();
 			int position = 0;
 
-			while (true) {
-				if (cartridgeReturn >= 0 && (lineFeed < 0 || cartridgeReturn < lineFeed)) {
-					builder.append(message, position, cartridgeReturn);
+			for (int index = 0; index < length; ++index) {
+				char character = message.charAt(index);
+				if (character == '\r' || character == '\n') {
+					builder.append(message, position, index);
 					builder.append(NEW_LINE);
 
-					position = cartridgeReturn + 1;
-					cartridgeReturn = message.indexOf('\r', position);
-				} else if (lineFeed >= 0) {
-					if (position == 0 || message.charAt(position - 1) != '\r') {
-						builder.append(message, position, lineFeed);
-						builder.append(NEW_LINE);
+					if (character == '\r' && index + 1 < length && message.charAt(index + 1) == '\n') {
+						index += 1;
 					}
 
-					position = lineFeed + 1;
-					lineFeed = message.indexOf('\n', position);
-				} else {
-					builder.append(message, position, message.length());
-					break;
+					position = index + 1;
 				}
 			}
+
+			builder.append(message, position, length);
 		}
 	}
 
@@ -40,6 +40,15 @@ final class PlainTextToken implements Token {
 		this.text = NEW_LINE_PATTERN.matcher(text).replaceAll(NEW_LINE);
 	}
 
+	/**
+	 * Gets the static text with normalized line separators.
+	 *
+	 * @return Static text
+	 */
+	String getText() {
+		return text;
+	}
+
 	@Override
 	public Collection<LogEntryValue> getRequiredLogEntryValues() {
 		return Collections.emptyList();
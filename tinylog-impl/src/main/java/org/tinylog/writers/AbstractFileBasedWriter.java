@@ -19,15 +19,22 @@ import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 
 import org.tinylog.Level;
 import org.tinylog.provider.InternalLogger;
+import org.tinylog.writers.raw.AutoFlushWriterDecorator;
 import org.tinylog.writers.raw.BufferedWriterDecorator;
 import org.tinylog.writers.raw.ByteArrayWriter;
 import org.tinylog.writers.raw.CharsetAdjustmentWriterDecorator;
+import org.tinylog.writers.raw.DoubleBufferedWriterDecorator;
+import org.tinylog.writers.raw.GatheringFileChannelWriter;
 import org.tinylog.writers.raw.LockedRandomAccessFileWriter;
+import org.tinylog.writers.raw.MemoryMappedFileWriter;
 import org.tinylog.writers.raw.RandomAccessFileWriter;
+import org.tinylog.writers.raw.StripedWriterDecorator;
 import org.tinylog.writers.raw.SynchronizedWriterDecorator;
 
 /**
@@ -35,6 +42,12 @@ import org.tinylog.writers.raw.SynchronizedWriterDecorator;
  */
 public abstract class AbstractFileBasedWriter implements Writer {
 
+	private static final long KB = 1024L;
+	private static final long MB = KB * 1024L;
+
+	private static final int DEFAULT_MAPPED_CHUNK_SIZE = (int) (8 * MB);
+	private static final int MAX_BUFFER_COUNT = 16;
+
 	/** */
 	protected AbstractFileBasedWriter() {
 	}
@@ -97,12 +110,60 @@ public abstract class AbstractFileBasedWriter implements Writer {
 	protected static ByteArrayWriter createByteArrayWriter(final String fileName, final boolean append,
 			final boolean buffered, final boolean threadSafe, final boolean shared, final Charset charset)
 			throws IOException {
+		return createByteArrayWriter(fileName, append, buffered, threadSafe, shared, charset,
+			Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * Creates a {@link ByteArrayWriter} for a file. In addition to the passed flags, the optional I/O properties
+	 * "mmap", "mmap.chunk", "nio", "buffer.size", "buffer.count", "buffer.striped", "flush.bytes", and
+	 * "flush.interval" are taken from the passed writer configuration. Automatic flushing is applied to thread-safe
+	 * writers only. Writers with their own synchronization can use
+	 * {@link #createAutoFlushWriter(ByteArrayWriter, boolean, Map)} instead.
+	 *
+	 * @param fileName
+	 *            Name of file to open for writing
+	 * @param append
+	 *            An already existing file should be continued
+	 * @param buffered
+	 *            Output should be buffered
+	 * @param threadSafe
+	 *            Created writer must be thread-safe
+	 * @param shared
+	 *            Output file is shared with other processes
+	 * @param charset
+	 *            Charset used by the writer
+	 * @param properties
+	 *            Configuration for writer
+	 * @return Writer for writing to passed file
+	 * @throws IOException
+	 *             Log file cannot be opened for write access
+	 */
+	protected static ByteArrayWriter createByteArrayWriter(final String fileName, final boolean append,
+			final boolean buffered, final boolean threadSafe, final boolean shared, final Charset charset,
+			final Map<String, String> properties) throws IOException {
 		File file = new File(fileName).getAbsoluteFile();
 		file.getParentFile().mkdirs();
 
 		byte[] charsetHeader = getCharsetHeader(charset);
 		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
 
+		boolean mapped = Boolean.parseBoolean(properties.get("mmap"));
+		if (mapped && shared) {
+			InternalLogger.log(Level.WARN, "Memory mapping is not supported for log files shared between processes");
+			mapped = false;
+		} else if (mapped && System.getProperty("os.name", "").startsWith("Windows")) {
+			InternalLogger.log(Level.WARN, "Memory mapping is not supported on Windows, as mapped log files cannot be"
+				+ " truncated to their real length on closing");
+			mapped = false;
+		}
+
+		boolean gathering = Boolean.parseBoolean(properties.get("nio"));
+		if (gathering && (shared || mapped)) {
+			InternalLogger.log(Level.WARN, "NIO is not supported for shared or memory mapped log files");
+			gathering = false;
+		}
+
 		ByteArrayWriter writer;
 		if (shared) {
 			FileLock lock = randomAccessFile.getChannel().lock();
@@ -113,17 +174,44 @@ public abstract class AbstractFileBasedWriter implements Writer {
 			}
 
 			writer = new LockedRandomAccessFileWriter(randomAccessFile);
+		} else if (mapped) {
+			prepareLogFile(randomAccessFile, append, charsetHeader);
+			writer = new MemoryMappedFileWriter(randomAccessFile,
+				getSize(properties, "mmap.chunk", DEFAULT_MAPPED_CHUNK_SIZE));
+		} else if (gathering) {
+			prepareLogFile(randomAccessFile, append, charsetHeader);
+			writer = new GatheringFileChannelWriter(randomAccessFile, buffered);
 		} else {
 			prepareLogFile(randomAccessFile, append, charsetHeader);
 			writer = new RandomAccessFileWriter(randomAccessFile);
 		}
 
-		if (buffered) {
-			writer = new BufferedWriterDecorator(writer);
+		boolean synchronizedBuffers = false;
+
+		if (buffered && !mapped && !gathering) {
+			int capacity = getSize(properties, "buffer.size", BufferedWriterDecorator.DEFAULT_CAPACITY);
+			int threshold = getSize(properties, "flush.bytes", capacity);
+			long count = properties.containsKey("buffer.count") ? getPositiveNumber(properties, "buffer.count") : 1;
+			boolean striped = Boolean.parseBoolean(properties.get("buffer.striped"));
+
+			if (threadSafe && striped) {
+				writer = new StripedWriterDecorator(writer, capacity);
+				synchronizedBuffers = true;
+			} else if (threadSafe && count > 1) {
+				count = Math.min(count, MAX_BUFFER_COUNT);
+				writer = new DoubleBufferedWriterDecorator(writer, capacity, threshold, (int) count);
+				synchronizedBuffers = true;
+			} else {
+				writer = new BufferedWriterDecorator(writer, capacity, threshold);
+			}
+		}
+
+		if (threadSafe && !synchronizedBuffers) {
+			writer = new SynchronizedWriterDecorator(writer);
 		}
 
 		if (threadSafe) {
-			writer = new SynchronizedWriterDecorator(writer, randomAccessFile);
+			writer = createAutoFlushWriter(writer, buffered, properties);
 		}
 
 		if (charsetHeader.length > 0) {
@@ -133,6 +221,30 @@ public abstract class AbstractFileBasedWriter implements Writer {
 		return writer;
 	}
 
+	/**
+	 * Decorates a thread-safe {@link ByteArrayWriter} for flushing it periodically, if output is buffered and the
+	 * property "flush.interval" is defined in the passed writer configuration.
+	 *
+	 * @param writer
+	 *            Thread-safe writer to flush
+	 * @param buffered
+	 *            Output is buffered
+	 * @param properties
+	 *            Configuration for writer
+	 * @return Decorated writer or the passed writer, if there is nothing to flush periodically
+	 */
+	protected static ByteArrayWriter createAutoFlushWriter(final ByteArrayWriter writer, final boolean buffered,
+			final Map<String, String> properties) {
+		if (buffered && properties.containsKey("flush.interval")) {
+			long interval = getPositiveNumber(properties, "flush.interval");
+			if (interval > 0) {
+				return new AutoFlushWriterDecorator(writer, interval);
+			}
+		}
+
+		return writer;
+	}
+
 	/**
 	 * Generate the header for the passed charset (for example BOM for UTF-16).
 	 *
@@ -148,6 +260,86 @@ public abstract class AbstractFileBasedWriter implements Writer {
 		return Arrays.copyOf(doubleSpace, singleSpace.length * 2 - doubleSpace.length);
 	}
 
+	/**
+	 * Extracts a size in bytes from configuration. Besides plain bytes, the units KB and MB are supported.
+	 *
+	 * @param properties
+	 *            Configuration for writer
+	 * @param key
+	 *            Name of the property
+	 * @param defaultSize
+	 *            Size to use if the property is not defined or invalid
+	 * @return Configured size in bytes
+	 */
+	private static int getSize(final Map<String, String> properties, final String key, final int defaultSize) {
+		String value = properties.get(key);
+		if (value == null) {
+			return defaultSize;
+		}
+
+		long size;
+		try {
+			size = parseSize(value.trim().toLowerCase(Locale.ROOT));
+		} catch (NumberFormatException ex) {
+			size = -1;
+		}
+
+		if (size > 0 && size <= Integer.MAX_VALUE) {
+			return (int) size;
+		} else {
+			InternalLogger.log(Level.ERROR, "Invalid size for '" + key + "': " + value);
+			return defaultSize;
+		}
+	}
+
+	/**
+	 * Extracts a positive number from configuration.
+	 *
+	 * @param properties
+	 *            Configuration for writer
+	 * @param key
+	 *            Name of the property
+	 * @return Configured number or {@code -1} if the property is invalid
+	 */
+	private static long getPositiveNumber(final Map<String, String> properties, final String key) {
+		String value = properties.get(key);
+
+		long number;
+		try {
+			number = Long.parseLong(value.trim());
+		} catch (NumberFormatException ex) {
+			number = -1;
+		}
+
+		if (number > 0) {
+			return number;
+		} else {
+			InternalLogger.log(Level.ERROR, "Invalid value for '" + key + "': " + value);
+			return -1;
+		}
+	}
+
+	/**
+	 * Parses a size from a string. The units MB, KB and bytes are supported.
+	 *
+	 * @param text
+	 *            Lower case size
+	 * @return Parsed size in bytes
+	 * @throws NumberFormatException
+	 *             Failed to parse size
+	 */
+	private static long parseSize(final String text) throws NumberFormatException {
+		if (text.endsWith("mb")) {
+			return Long.parseLong(text.substring(0, text.length() - "mb".length()).trim()) * MB;
+		} else if (text.endsWith("kb")) {
+			return Long.parseLong(text.substring(0, text.length() - "kb".length()).trim()) * KB;
+		} else if (text.endsWith("bytes")) {
+			return Long.parseLong(text.substring(0, text.length() - "bytes".length()).trim());
+		} else {
+			return Long.parseLong(text);
+		}
+	}
+
 	private static void prepareLogFile(final RandomAccessFile randomAccessFile, final boolean append,
 			final byte[] charsetHeader) throws IOException {
 		if (append) {
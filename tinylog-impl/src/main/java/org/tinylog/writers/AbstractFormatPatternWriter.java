@@ -13,6 +13,9 @@
 
 package org.tinylog.writers;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 
@@ -20,6 +23,7 @@ import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
 import org.tinylog.pattern.FormatPatternParser;
 import org.tinylog.pattern.Token;
+import org.tinylog.writers.raw.ByteArrayWriter;
 
 /**
  * Base writer for outputting rendered log entries. The format pattern will be read from property {@code format}.
@@ -32,6 +36,7 @@ public abstract class AbstractFormatPatternWriter extends AbstractFileBasedWrite
 
 	private final StringBuilder builder;
 	private final Token token;
+	private TextEncoder encoder;
 
 	/**
 	 * @param properties
@@ -77,4 +82,77 @@ public abstract class AbstractFormatPatternWriter extends AbstractFileBasedWrite
 		}
 	}
 
+	/**
+	 * Renders a log entry as encoded bytes.
+	 *
+	 * <p>
+	 * If the writing thread is enabled, the log entry is rendered into a reusable string builder and encoded into a
+	 * reusable byte buffer. Only the returned array with the exact length is created. Otherwise, the rendered log
+	 * entry is encoded via {@link String#getBytes(Charset)}.
+	 * </p>
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @param charset
+	 *            Charset for encoding (must be the same for all calls)
+	 * @return Rendered log entry as bytes
+	 */
+	protected final byte[] render(final LogEntry logEntry, final Charset charset) {
+		if (builder == null) {
+			return render(logEntry).getBytes(charset);
+		} else {
+			int length = encode(logEntry, charset);
+			return Arrays.copyOf(encoder.getBytes(), length);
+		}
+	}
+
+	/**
+	 * Renders a log entry as encoded bytes and outputs them to a byte array writer.
+	 *
+	 * <p>
+	 * If the writing thread is enabled, the log entry is rendered into a reusable string builder and encoded into a
+	 * reusable byte buffer. The byte array writer receives a slice of this byte buffer. Thus, no intermediate string
+	 * or byte array is created. Otherwise, the rendered log entry is encoded via {@link String#getBytes(Charset)}.
+	 * </p>
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @param charset
+	 *            Charset for encoding (must be the same for all calls)
+	 * @param writer
+	 *            Target for the encoded bytes
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	protected final void write(final LogEntry logEntry, final Charset charset, final ByteArrayWriter writer)
+		throws IOException {
+		if (builder == null) {
+			byte[] data = render(logEntry).getBytes(charset);
+			writer.write(data, 0, data.length);
+		} else {
+			int length = encode(logEntry, charset);
+			writer.write(encoder.getBytes(), 0, length);
+		}
+	}
+
+	/**
+	 * Renders a log entry into the reusable string builder and encodes it into the reusable byte buffer. This method
+	 * must be only called if the writing thread is enabled.
+	 *
+	 * @param logEntry
+	 *            Log entry to render
+	 * @param charset
+	 *            Charset for encoding
+	 * @return Number of encoded bytes
+	 */
+	private int encode(final LogEntry logEntry, final Charset charset) {
+		if (encoder == null) {
+			encoder = new TextEncoder(charset);
+		}
+
+		builder.setLength(0);
+		token.render(logEntry, builder);
+		return encoder.encode(builder);
+	}
+
 }
@@ -58,13 +58,12 @@ public final class FileWriter extends AbstractFormatPatternWriter {
 		boolean writingThread = Boolean.parseBoolean(properties.get("writingthread"));
 
 		charset = getCharset(properties);
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset);
+		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset, properties);
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
-		writer.write(data, 0, data.length);
+		write(logEntry, charset, writer);
 	}
 
 	@Override
@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -52,7 +54,7 @@ public final class JdbcWriter implements Writer {
 	private final boolean reconnect;
 	private final boolean batch;
 
-	private final Object mutex;
+	private final Lock lock;
 	private final String sql;
 	private final List<Token> tokens;
 
@@ -88,7 +90,7 @@ public final class JdbcWriter implements Writer {
 		reconnect = Boolean.parseBoolean(properties.get("reconnect"));
 		batch = Boolean.parseBoolean(properties.get("batch"));
 
-		mutex = Boolean.parseBoolean(properties.get("writingthread")) ? null : new Object();
+		lock = Boolean.parseBoolean(properties.get("writingthread")) ? null : new ReentrantLock();
 
 		connection = connect(url, user, password);
 		sql = renderSql(properties, connection.getMetaData().getIdentifierQuoteString());
@@ -107,11 +109,14 @@ public final class JdbcWriter implements Writer {
 
 	@Override
 	public void write(final LogEntry logEntry) throws SQLException {
-		if (mutex == null) {
+		if (lock == null) {
 			doWrite(logEntry);
 		} else {
-			synchronized (mutex) {
+			lock.lock();
+			try {
 				doWrite(logEntry);
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -119,11 +124,14 @@ public final class JdbcWriter implements Writer {
 	@Override
 	public void flush() throws SQLException {
 		if (batch) {
-			if (mutex == null) {
+			if (lock == null) {
 				doFlush();
 			} else {
-				synchronized (mutex) {
+				lock.lock();
+				try {
 					doFlush();
+				} finally {
+					lock.unlock();
 				}
 			}
 		}
@@ -131,11 +139,14 @@ public final class JdbcWriter implements Writer {
 
 	@Override
 	public void close() throws SQLException {
-		if (mutex == null) {
+		if (lock == null) {
 			doClose();
 		} else {
-			synchronized (mutex) {
+			lock.lock();
+			try {
 				doClose();
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -42,6 +42,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 	private final ByteArrayWriter writer;
 
 	private StringBuilder builder;
+	private TextEncoder encoder;
 	private final Map<String, Token> jsonProperties;
 
 	private final byte[] newLineBytes;
@@ -69,7 +70,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 		boolean writingThread = Boolean.parseBoolean(properties.get("writingthread"));
 
 		charset = getCharset(properties);
-		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset);
+		writer = createByteArrayWriter(fileName, append, buffered, !writingThread, false, charset, properties);
 
 		byte[] charsetHeader = getCharsetHeader(charset);
 
@@ -81,6 +82,7 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 
 		if (writingThread) {
 			builder = new StringBuilder();
+			encoder = new TextEncoder(charset);
 		}
 
 		preProcessFile();
@@ -88,18 +90,17 @@ public final class JsonWriter extends AbstractFileBasedWriter {
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		StringBuilder builder;
-		if (this.builder == null) {
-			builder = new StringBuilder();
+		if (builder == null) {
+			StringBuilder builder = new StringBuilder();
+			addJsonObject(logEntry, builder);
+			byte[] data = builder.toString().getBytes(charset);
+			writer.write(data, 0, data.length);
 		} else {
-			builder = this.builder;
 			builder.setLength(0);
+			addJsonObject(logEntry, builder);
+			int length = encoder.encode(builder);
+			writer.write(encoder.getBytes(), 0, length);
 		}
-
-		addJsonObject(logEntry, builder);
-
-		byte[] data = builder.toString().getBytes(charset);
-		writer.write(data, 0, data.length);
 	}
 
 	@Override
@@ -22,6 +22,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
 import org.tinylog.Level;
@@ -52,6 +54,9 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	private final boolean writingThread;
 	private final DynamicPath linkToLatest;
 	private final Charset charset;
+	private final Map<String, String> properties;
+	private final Lock lock;
+	private final ByteArrayWriter synchronizedWriter;
 
 	private ByteArrayWriter writer;
 
@@ -109,17 +114,23 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		charset = getCharset(properties);
 		buffered = Boolean.parseBoolean(properties.get("buffered"));
 		writingThread = Boolean.parseBoolean(properties.get("writingthread"));
+		this.properties = properties;
+		lock = writingThread ? null : new ReentrantLock();
 		writer = createByteArrayWriterAndLinkLatest(fileName, append, buffered, charset);
+		synchronizedWriter = writingThread ? null : createAutoFlushWriter(new LockedWriter(), buffered, properties);
 	}
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
+		byte[] data = render(logEntry, charset);
 		if (writingThread) {
 			internalWrite(data);
 		} else {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalWrite(data);
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -129,8 +140,11 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		if (writingThread) {
 			internalFlush();
 		} else {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalFlush();
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -140,8 +154,11 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		if (writingThread) {
 			internalClose();
 		} else {
-			synchronized (writer) {
+			lock.lock();
+			try {
 				internalClose();
+			} finally {
+				lock.unlock();
 			}
 		}
 	}
@@ -172,7 +189,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		}
 
 		byte[] convertedData = converter.write(data);
-		writer.write(convertedData, 0, convertedData.length);
+		getOutput().write(convertedData, 0, convertedData.length);
 	}
 
 	/**
@@ -182,7 +199,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *             Flushing failed
 	 */
 	private void internalFlush() throws IOException {
-		writer.flush();
+		getOutput().flush();
 	}
 
 	/**
@@ -194,11 +211,21 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	 *             Interrupted while waiting for the converter
 	 */
 	private void internalClose() throws IOException, InterruptedException {
-		writer.close();
+		getOutput().close();
 		converter.close();
 		converter.shutdown();
 	}
 
+	/**
+	 * Gets the writer for outputting data to the current log file. If there is no writing thread, this is the thread-safe
+	 * writer, which can also be flushed automatically.
+	 *
+	 * @return Writer for the current log file
+	 */
+	private ByteArrayWriter getOutput() {
+		return synchronizedWriter == null ? writer : synchronizedWriter;
+	}
+
 	/**
 	 * Gets all log files including backups from {@link DynamicPath} but without links.
 	 *
@@ -241,7 +268,7 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 	private ByteArrayWriter createByteArrayWriterAndLinkLatest(final String fileName, final boolean append,
 			final boolean buffered, final Charset charset) throws IOException {
 		converter.open(fileName);
-		ByteArrayWriter writer = createByteArrayWriter(fileName, append, buffered, false, false, charset);
+		ByteArrayWriter writer = createByteArrayWriter(fileName, append, buffered, false, false, charset, properties);
 		if (linkToLatest != null) {
 			File logFile = new File(fileName);
 			File linkFile = new File(linkToLatest.resolve());
@@ -365,4 +392,71 @@ public final class RollingFileWriter extends AbstractFormatPatternWriter {
 		}
 	}
 
+	/**
+	 * Thread-safe writer that always delegates to the writer of the current log file. All methods are synchronized by
+	 * the lock of the rolling file writer.
+	 */
+	private final class LockedWriter implements ByteArrayWriter {
+
+		/** */
+		private LockedWriter() {
+		}
+
+		@Override
+		public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+			lock.lock();
+			try {
+				return writer.readTail(data, offset, length);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void write(final byte[] data, final int length) throws IOException {
+			write(data, 0, length);
+		}
+
+		@Override
+		public void write(final byte[] data, final int offset, final int length) throws IOException {
+			lock.lock();
+			try {
+				writer.write(data, offset, length);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void truncate(final int count) throws IOException {
+			lock.lock();
+			try {
+				writer.truncate(count);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			lock.lock();
+			try {
+				writer.flush();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			lock.lock();
+			try {
+				writer.close();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
 }
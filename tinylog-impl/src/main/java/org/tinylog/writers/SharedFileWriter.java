@@ -93,8 +93,7 @@ public final class SharedFileWriter extends AbstractFormatPatternWriter {
 
 	@Override
 	public void write(final LogEntry logEntry) throws IOException {
-		byte[] data = render(logEntry).getBytes(charset);
-		writer.write(data, 0, data.length);
+		write(logEntry, charset, writer);
 	}
 
 	@Override
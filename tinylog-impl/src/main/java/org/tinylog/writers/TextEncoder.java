@@ -0,0 +1,275 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encoder for converting text into bytes of a defined charset. The bytes are written into a reusable byte buffer
+ * without creating any intermediate string or byte array.
+ *
+ * <p>
+ * US-ASCII, ISO-8859-1 and UTF-8 are encoded directly. All other charsets are encoded by a cached
+ * {@link CharsetEncoder}. Unmappable characters and malformed surrogates are replaced by a question mark like
+ * {@link String#getBytes(Charset)} does. This class is not thread-safe.
+ * </p>
+ */
+final class TextEncoder {
+
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final byte REPLACEMENT = '?';
+
+	private static final int ASCII_LIMIT = 0x80;
+	private static final int LATIN1_LIMIT = 0x100;
+	private static final int TWO_BYTES_LIMIT = 0x800;
+
+	private static final int UTF8_MAX_BYTES_PER_CHAR = 3;
+	private static final int TWO_BYTES_PREFIX = 0xC0;
+	private static final int THREE_BYTES_PREFIX = 0xE0;
+	private static final int FOUR_BYTES_PREFIX = 0xF0;
+	private static final int CONTINUATION_PREFIX = 0x80;
+	private static final int CONTINUATION_MASK = 0x3F;
+	private static final int FIRST_SHIFT = 6;
+	private static final int SECOND_SHIFT = 12;
+	private static final int THIRD_SHIFT = 18;
+
+	private final Mode mode;
+	private final CharsetEncoder encoder;
+	private ByteBuffer buffer;
+
+	/**
+	 * @param charset
+	 *            Charset for encoding
+	 */
+	TextEncoder(final Charset charset) {
+		String name = charset.name();
+		if ("US-ASCII".equals(name)) {
+			mode = Mode.ASCII;
+			encoder = null;
+		} else if ("ISO-8859-1".equals(name)) {
+			mode = Mode.LATIN1;
+			encoder = null;
+		} else if ("UTF-8".equals(name)) {
+			mode = Mode.UTF8;
+			encoder = null;
+		} else {
+			mode = Mode.GENERIC;
+			encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+
+		buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Encodes a text. The encoded bytes are stored at the beginning of the reusable byte array, which can be received
+	 * via {@link #getBytes()}, and are valid until the next call of this method.
+	 *
+	 * @param text
+	 *            Text to encode
+	 * @return Number of encoded bytes
+	 */
+	int encode(final CharSequence text) {
+		switch (mode) {
+			case ASCII:
+				return encodeSingleBytes(text, ASCII_LIMIT);
+			case LATIN1:
+				return encodeSingleBytes(text, LATIN1_LIMIT);
+			case UTF8:
+				return encodeUtf8(text);
+			default:
+				return encodeGeneric(text);
+		}
+	}
+
+	/**
+	 * Gets the reusable byte array that contains the bytes of the last encoded text at the beginning.
+	 *
+	 * @return Reusable byte array
+	 */
+	byte[] getBytes() {
+		return buffer.array();
+	}
+
+	/**
+	 * Encodes a text for charsets that map each character to exactly one byte.
+	 *
+	 * @param text
+	 *            Text to encode
+	 * @param limit
+	 *            All characters below this limit are mappable
+	 * @return Number of encoded bytes
+	 */
+	private int encodeSingleBytes(final CharSequence text, final int limit) {
+		int length = text.length();
+		byte[] bytes = ensureCapacity(length);
+		int position = 0;
+
+		for (int index = 0; index < length; ++index) {
+			char character = text.charAt(index);
+			if (character < limit) {
+				bytes[position++] = (byte) character;
+			} else {
+				if (isSurrogatePair(text, index)) {
+					index += 1;
+				}
+				bytes[position++] = REPLACEMENT;
+			}
+		}
+
+		return position;
+	}
+
+	/**
+	 * Encodes a text as UTF-8.
+	 *
+	 * @param text
+	 *            Text to encode
+	 * @return Number of encoded bytes
+	 */
+	private int encodeUtf8(final CharSequence text) {
+		int length = text.length();
+		byte[] bytes = ensureCapacity(length * UTF8_MAX_BYTES_PER_CHAR);
+		int position = 0;
+
+		for (int index = 0; index < length; ++index) {
+			char character = text.charAt(index);
+			if (character < ASCII_LIMIT) {
+				bytes[position++] = (byte) character;
+			} else if (character < TWO_BYTES_LIMIT) {
+				bytes[position++] = (byte) (TWO_BYTES_PREFIX | character >> FIRST_SHIFT);
+				bytes[position++] = (byte) (CONTINUATION_PREFIX | character & CONTINUATION_MASK);
+			} else if (isSurrogatePair(text, index)) {
+				int codePoint = Character.toCodePoint(character, text.charAt(++index));
+				bytes[position++] = (byte) (FOUR_BYTES_PREFIX | codePoint >> THIRD_SHIFT);
+				bytes[position++] = (byte) (CONTINUATION_PREFIX | codePoint >> SECOND_SHIFT & CONTINUATION_MASK);
+				bytes[position++] = (byte) (CONTINUATION_PREFIX | codePoint >> FIRST_SHIFT & CONTINUATION_MASK);
+				bytes[position++] = (byte) (CONTINUATION_PREFIX | codePoint & CONTINUATION_MASK);
+			} else if (Character.isHighSurrogate(character) || Character.isLowSurrogate(character)) {
+				bytes[position++] = REPLACEMENT;
+			} else {
+				bytes[position++] = (byte) (THREE_BYTES_PREFIX | character >> SECOND_SHIFT);
+				bytes[position++] = (byte) (CONTINUATION_PREFIX | character >> FIRST_SHIFT & CONTINUATION_MASK);
+				bytes[position++] = (byte) (CONTINUATION_PREFIX | character & CONTINUATION_MASK);
+			}
+		}
+
+		return position;
+	}
+
+	/**
+	 * Encodes a text via the cached charset encoder.
+	 *
+	 * @param text
+	 *            Text to encode
+	 * @return Number of encoded bytes
+	 */
+	private int encodeGeneric(final CharSequence text) {
+		CharBuffer input = CharBuffer.wrap(text);
+		ensureCapacity((int) Math.ceil(text.length() * (double) encoder.maxBytesPerChar()));
+
+		Buffer output = buffer;
+		output.clear();
+		encoder.reset();
+
+		CoderResult result = encoder.encode(input, buffer, true);
+		while (result.isOverflow()) {
+			grow();
+			result = encoder.encode(input, buffer, true);
+		}
+
+		result = encoder.flush(buffer);
+		while (result.isOverflow()) {
+			grow();
+			result = encoder.flush(buffer);
+		}
+
+		return buffer.position();
+	}
+
+	/**
+	 * Checks whether there is a valid surrogate pair at the given index.
+	 *
+	 * @param text
+	 *            Text to check
+	 * @param index
+	 *            Index of the potential high surrogate
+	 * @return {@code true} if there is a high surrogate followed by a low surrogate, otherwise {@code false}
+	 */
+	private static boolean isSurrogatePair(final CharSequence text, final int index) {
+		return Character.isHighSurrogate(text.charAt(index)) && index + 1 < text.length()
+			&& Character.isLowSurrogate(text.charAt(index + 1));
+	}
+
+	/**
+	 * Ensures that the byte buffer can hold at least the passed number of bytes. The content of the byte buffer is
+	 * not retained if a larger byte buffer has to be allocated.
+	 *
+	 * @param capacity
+	 *            Minimum required capacity
+	 * @return Backing byte array of the byte buffer
+	 */
+	private byte[] ensureCapacity(final int capacity) {
+		if (buffer.capacity() < capacity) {
+			buffer = ByteBuffer.allocate(Math.max(capacity, buffer.capacity() * 2));
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Doubles the capacity of the byte buffer. The already encoded bytes are retained.
+	 */
+	private void grow() {
+		ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+		Buffer input = buffer;
+		input.flip();
+		larger.put(buffer);
+		buffer = larger;
+	}
+
+	/**
+	 * Encoding modes.
+	 */
+	private enum Mode {
+
+		/**
+		 * Direct encoding for US-ASCII.
+		 */
+		ASCII,
+
+		/**
+		 * Direct encoding for ISO-8859-1.
+		 */
+		LATIN1,
+
+		/**
+		 * Direct encoding for UTF-8.
+		 */
+		UTF8,
+
+		/**
+		 * Encoding via {@link CharsetEncoder}.
+		 */
+		GENERIC
+
+	}
+
+}
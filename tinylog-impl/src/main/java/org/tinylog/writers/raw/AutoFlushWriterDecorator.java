@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Decorator for flushing a buffered {@link ByteArrayWriter} periodically.
+ *
+ * <p>
+ * The underlying writer is flushed in the passed interval, if any data has been written since the last flush. All
+ * decorators share one background daemon thread for flushing. Therefore, the underlying writer must be thread-safe.
+ * </p>
+ *
+ * <p>
+ * The background thread is started by the first decorator and shut down as soon as the last decorator is closed.
+ * </p>
+ */
+public final class AutoFlushWriterDecorator implements ByteArrayWriter {
+
+	private static final Object MUTEX = new Object();
+
+	private static ScheduledExecutorService scheduler;
+	private static int instances;
+
+	private final ByteArrayWriter writer;
+	private final ScheduledFuture<?> future;
+	private volatile boolean dirty;
+	private boolean closed;
+
+	/**
+	 * @param writer
+	 *            Underlying thread-safe writer
+	 * @param interval
+	 *            Flush interval in milliseconds
+	 */
+	public AutoFlushWriterDecorator(final ByteArrayWriter writer, final long interval) {
+		this.writer = writer;
+
+		synchronized (MUTEX) {
+			if (scheduler == null) {
+				scheduler = Executors.newSingleThreadScheduledExecutor(new FlusherThreadFactory());
+			}
+
+			this.future = scheduler.scheduleWithFixedDelay(new FlushTask(), interval, interval, TimeUnit.MILLISECONDS);
+			instances += 1;
+		}
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		return writer.readTail(data, offset, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		writer.write(data, offset, length);
+		dirty = true;
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		writer.truncate(count);
+		dirty = true;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		dirty = false;
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		dirty = false;
+
+		synchronized (MUTEX) {
+			if (!closed) {
+				closed = true;
+				future.cancel(false);
+
+				if (--instances == 0) {
+					scheduler.shutdown();
+					scheduler = null;
+				}
+			}
+		}
+
+		writer.close();
+	}
+
+	/**
+	 * Creates the daemon thread for flushing.
+	 */
+	private static final class FlusherThreadFactory implements ThreadFactory {
+
+		/** */
+		private FlusherThreadFactory() {
+		}
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			Thread thread = new Thread(runnable, "tinylog-Flusher");
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+	/**
+	 * Task for flushing the underlying writer, if there is any unflushed data.
+	 */
+	private final class FlushTask implements Runnable {
+
+		/** */
+		private FlushTask() {
+		}
+
+		@Override
+		public void run() {
+			if (dirty) {
+				try {
+					flush();
+				} catch (Exception ex) {
+					InternalLogger.log(Level.ERROR, ex, "Failed to flush writer");
+				}
+			}
+		}
+
+	}
+
+}
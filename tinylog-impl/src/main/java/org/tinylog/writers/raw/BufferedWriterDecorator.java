@@ -17,14 +17,19 @@ import java.io.IOException;
 
 /**
  * Decorator to buffer output data for any {@link ByteArrayWriter} implementation. Data will be finally written if
- * either the buffer is full or {@link #flush()} or {@link #close()} is called.
+ * either the buffer is full, the buffered data reaches the flush threshold, or {@link #flush()} or {@link #close()} is
+ * called.
  */
 public final class BufferedWriterDecorator implements ByteArrayWriter {
 
-	private static final int BUFFER_CAPACITY = 64 * 1024; // 64 KB
+	/**
+	 * Default buffer capacity in bytes.
+	 */
+	public static final int DEFAULT_CAPACITY = 64 * 1024; // 64 KB
 
 	private final ByteArrayWriter writer;
 	private final byte[] buffer;
+	private final int threshold;
 	private int position;
 
 	/**
@@ -32,8 +37,31 @@ public final class BufferedWriterDecorator implements ByteArrayWriter {
 	 *            Underlying writer
 	 */
 	public BufferedWriterDecorator(final ByteArrayWriter writer) {
+		this(writer, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Buffer capacity in bytes
+	 */
+	public BufferedWriterDecorator(final ByteArrayWriter writer, final int capacity) {
+		this(writer, capacity, capacity);
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Buffer capacity in bytes
+	 * @param threshold
+	 *            Number of buffered bytes from which the buffer is written immediately
+	 */
+	public BufferedWriterDecorator(final ByteArrayWriter writer, final int capacity, final int threshold) {
 		this.writer = writer;
-		this.buffer = new byte[BUFFER_CAPACITY];
+		this.buffer = new byte[capacity];
+		this.threshold = Math.min(threshold, capacity);
 		this.position = 0;
 	}
 
@@ -56,16 +84,21 @@ public final class BufferedWriterDecorator implements ByteArrayWriter {
 
 	@Override
 	public void write(final byte[] data, final int offset, final int length) throws IOException {
-		if (position > 0 && BUFFER_CAPACITY - position < length) {
+		if (position > 0 && buffer.length - position < length) {
 			writer.write(buffer, 0, position);
 			position = 0;
 		}
 
-		if (BUFFER_CAPACITY < length) {
+		if (buffer.length < length) {
 			writer.write(data, offset, length);
 		} else {
 			System.arraycopy(data, offset, buffer, position, length);
 			position += length;
+
+			if (position >= threshold && threshold < buffer.length) {
+				writer.write(buffer, 0, position);
+				position = 0;
+			}
 		}
 	}
 
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.tinylog.Level;
+import org.tinylog.provider.InternalLogger;
+
+/**
+ * Thread-safe decorator to buffer output data for any {@link ByteArrayWriter} implementation by using two or more
+ * buffers.
+ *
+ * <p>
+ * Producers append data into the active buffer while holding a lock only for copying. As soon as the active buffer is
+ * full, it is handed over to a dedicated flusher thread and the next free buffer becomes the active one. The flusher
+ * thread writes the full buffers in the order they were handed over. Producers have to wait only if all buffers are
+ * full.
+ * </p>
+ *
+ * <p>
+ * {@link #flush()}, {@link #readTail(byte[], int, int)}, {@link #truncate(int)}, and {@link #close()} wait until the
+ * flusher thread has written all full buffers, and then access the underlying writer directly. After closing, all
+ * further calls except {@link #close()} fail with an {@link IOException}.
+ * </p>
+ */
+public final class DoubleBufferedWriterDecorator implements ByteArrayWriter {
+
+	private final ByteArrayWriter writer;
+	private final int capacity;
+	private final int threshold;
+
+	private final Lock lock;
+	private final Condition filled;
+	private final Condition released;
+
+	private final Queue<Segment> freeSegments;
+	private final Queue<Segment> fullSegments;
+	private Segment activeSegment;
+	private boolean writing;
+	private boolean closed;
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Capacity of each buffer in bytes
+	 * @param threshold
+	 *            Number of buffered bytes from which the active buffer is handed over to the flusher thread
+	 * @param count
+	 *            Number of buffers (at least two)
+	 */
+	public DoubleBufferedWriterDecorator(final ByteArrayWriter writer, final int capacity, final int threshold,
+		final int count) {
+		this.writer = writer;
+		this.capacity = capacity;
+		this.threshold = Math.min(threshold, capacity);
+
+		this.lock = new ReentrantLock();
+		this.filled = lock.newCondition();
+		this.released = lock.newCondition();
+
+		this.freeSegments = new ArrayDeque<Segment>();
+		this.fullSegments = new ArrayDeque<Segment>();
+		this.activeSegment = new Segment(capacity);
+
+		for (int i = 1; i < Math.max(2, count); ++i) {
+			freeSegments.add(new Segment(capacity));
+		}
+
+		Thread thread = new Thread(new Flusher(), "tinylog-BufferFlusher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		lock.lock();
+		try {
+			ensureOpen();
+			awaitIdleFlusher();
+			writeActiveSegment();
+			return writer.readTail(data, offset, length);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		lock.lock();
+		try {
+			ensureOpen();
+
+			if (activeSegment.length > 0 && capacity - activeSegment.length < length) {
+				handOverActiveSegment();
+			}
+
+			if (capacity < length) {
+				awaitIdleFlusher();
+				writer.write(data, offset, length);
+			} else {
+				System.arraycopy(data, offset, activeSegment.data, activeSegment.length, length);
+				activeSegment.length += length;
+
+				if (activeSegment.length >= threshold) {
+					handOverActiveSegment();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		lock.lock();
+		try {
+			ensureOpen();
+			awaitIdleFlusher();
+
+			if (count <= activeSegment.length) {
+				activeSegment.length -= count;
+			} else {
+				writer.truncate(count - activeSegment.length);
+				activeSegment.length = 0;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		lock.lock();
+		try {
+			ensureOpen();
+			awaitIdleFlusher();
+			writeActiveSegment();
+			writer.flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			if (closed) {
+				return;
+			}
+
+			awaitIdleFlusher();
+			closed = true;
+			filled.signal();
+
+			try {
+				writeActiveSegment();
+			} finally {
+				writer.close();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Hands the active buffer over to the flusher thread and activates the next free buffer. If there is no free
+	 * buffer, this method waits until the flusher thread has released one.
+	 *
+	 * <p>
+	 * The lock must be held by the current thread.
+	 * </p>
+	 *
+	 * @throws IOException
+	 *             Writer has been closed by another thread while waiting
+	 */
+	private void handOverActiveSegment() throws IOException {
+		while (freeSegments.isEmpty()) {
+			released.awaitUninterruptibly();
+		}
+
+		ensureOpen();
+
+		fullSegments.add(activeSegment);
+		activeSegment = freeSegments.poll();
+		filled.signal();
+	}
+
+	/**
+	 * Ensures that this writer has not been closed yet. As the flusher thread terminates on closing, any further
+	 * buffered data would never be written and waiting for free buffers would block forever.
+	 *
+	 * <p>
+	 * The lock must be held by the current thread.
+	 * </p>
+	 *
+	 * @throws IOException
+	 *             Writer has been already closed
+	 */
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Writer is already closed");
+		}
+	}
+
+	/**
+	 * Waits until the flusher thread has written all full buffers.
+	 *
+	 * <p>
+	 * The lock must be held by the current thread.
+	 * </p>
+	 */
+	private void awaitIdleFlusher() {
+		while (writing || !fullSegments.isEmpty()) {
+			released.awaitUninterruptibly();
+		}
+	}
+
+	/**
+	 * Writes the data of the active buffer directly to the underlying writer.
+	 *
+	 * <p>
+	 * The lock must be held by the current thread and the flusher thread must be idle.
+	 * </p>
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	private void writeActiveSegment() throws IOException {
+		if (activeSegment.length > 0) {
+			int length = activeSegment.length;
+			activeSegment.length = 0;
+			writer.write(activeSegment.data, 0, length);
+		}
+	}
+
+	/**
+	 * Buffer with the number of used bytes.
+	 */
+	private static final class Segment {
+
+		private final byte[] data;
+		private int length;
+
+		/**
+		 * @param capacity
+		 *            Capacity of buffer in bytes
+		 */
+		private Segment(final int capacity) {
+			this.data = new byte[capacity];
+			this.length = 0;
+		}
+
+	}
+
+	/**
+	 * Task for writing full buffers by the flusher thread.
+	 */
+	private final class Flusher implements Runnable {
+
+		/** */
+		private Flusher() {
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				Segment segment;
+
+				lock.lock();
+				try {
+					while (fullSegments.isEmpty() && !closed) {
+						filled.awaitUninterruptibly();
+					}
+
+					if (fullSegments.isEmpty()) {
+						return;
+					}
+
+					segment = fullSegments.poll();
+					writing = true;
+				} finally {
+					lock.unlock();
+				}
+
+				try {
+					writer.write(segment.data, 0, segment.length);
+				} catch (Exception ex) {
+					InternalLogger.log(Level.ERROR, ex, "Failed to write buffered data");
+				}
+
+				lock.lock();
+				try {
+					segment.length = 0;
+					freeSegments.add(segment);
+					writing = false;
+					released.signalAll();
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writer for writing to a {@link RandomAccessFile} via its {@link FileChannel}.
+ *
+ * <p>
+ *     Output data is collected in a pool of direct {@link ByteBuffer ByteBuffers}. If buffering is enabled, all filled
+ *     buffers are written by one gathering {@link FileChannel#write(ByteBuffer[], int, int)} call, if either all
+ *     buffers are full or {@link #flush()} or {@link #close()} is called. Otherwise, the buffers are written at the end
+ *     of each write call.
+ * </p>
+ */
+public final class GatheringFileChannelWriter implements ByteArrayWriter {
+
+	private static final int BUFFER_COUNT = 16;
+	private static final int BUFFER_CAPACITY = 16 * 1024; // 16 KB
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final ByteBuffer[] buffers;
+	private final boolean buffered;
+	private int index;
+
+	/**
+	 * @param file
+	 *            Underlying random access file
+	 * @param buffered
+	 *            {@code true} for collecting output data until all buffers are full or the writer is flushed,
+	 *            {@code false} for writing output data immediately
+	 */
+	public GatheringFileChannelWriter(final RandomAccessFile file, final boolean buffered) {
+		this.file = file;
+		this.channel = file.getChannel();
+		this.buffered = buffered;
+		this.buffers = new ByteBuffer[BUFFER_COUNT];
+		this.index = 0;
+
+		for (int i = 0; i < BUFFER_COUNT; ++i) {
+			buffers[i] = ByteBuffer.allocateDirect(BUFFER_CAPACITY);
+		}
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		writeBuffers();
+
+		long fileSize = channel.size();
+		int bytesToRead = (int) Math.min(fileSize, length);
+
+		ByteBuffer target = ByteBuffer.wrap(data, offset, bytesToRead);
+		long position = fileSize - bytesToRead;
+		while (target.hasRemaining()) {
+			int count = channel.read(target, position);
+			if (count < 0) {
+				break;
+			} else {
+				position += count;
+			}
+		}
+
+		return bytesToRead - target.remaining();
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		int position = offset;
+		int remaining = length;
+
+		while (remaining > 0) {
+			ByteBuffer buffer = buffers[index];
+			if (buffer.hasRemaining()) {
+				int count = Math.min(remaining, buffer.remaining());
+				buffer.put(data, position, count);
+				position += count;
+				remaining -= count;
+			} else if (index < BUFFER_COUNT - 1) {
+				index += 1;
+			} else {
+				writeBuffers();
+			}
+		}
+
+		if (!buffered) {
+			writeBuffers();
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		writeBuffers();
+		channel.truncate(Math.max(0, channel.size() - count));
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writeBuffers();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			writeBuffers();
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Writes all filled buffers by a single gathering write and clears them afterwards.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	private void writeBuffers() throws IOException {
+		int count = index + 1;
+		long remaining = 0;
+
+		for (int i = 0; i < count; ++i) {
+			Buffer buffer = buffers[i];
+			buffer.flip();
+			remaining += buffer.remaining();
+		}
+
+		while (remaining > 0) {
+			remaining -= channel.write(buffers, 0, count);
+		}
+
+		for (int i = 0; i < count; ++i) {
+			Buffer buffer = buffers[i];
+			buffer.clear();
+		}
+
+		index = 0;
+	}
+
+}
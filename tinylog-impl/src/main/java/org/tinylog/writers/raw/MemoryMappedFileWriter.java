@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Writer for appending data to a {@link RandomAccessFile} through a {@link MappedByteBuffer}.
+ *
+ * <p>
+ *     The file is mapped in chunks of a fixed size. Written data is copied into the page cache without any system
+ *     call. A new chunk is mapped as soon as the current one is full. As mapping extends the file, the file is
+ *     truncated to its real length when closing this writer.
+ * </p>
+ *
+ * <p>
+ *     Java provides no public API for unmapping. Therefore, chunks are not unmapped explicitly, but released by the
+ *     garbage collector as soon as they are no longer referenced. Some platforms like Windows refuse to truncate files
+ *     with still mapped chunks. In this case, {@link #close()} fails with an {@link IOException} and the file keeps
+ *     the zero bytes of the unused rest of the last chunk.
+ * </p>
+ */
+public final class MemoryMappedFileWriter implements ByteArrayWriter {
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final int chunkSize;
+
+	private long start;
+	private MappedByteBuffer buffer;
+
+	/**
+	 * @param file
+	 *            Underlying random access file
+	 * @param chunkSize
+	 *            Number of bytes to map at once
+	 * @throws IOException
+	 *             Mapping of the file failed
+	 */
+	public MemoryMappedFileWriter(final RandomAccessFile file, final int chunkSize) throws IOException {
+		this.file = file;
+		this.channel = file.getChannel();
+		this.chunkSize = chunkSize;
+
+		map(file.length());
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		long size = start + buffer.position();
+		int bytesToRead = (int) Math.min(size, length);
+
+		ByteBuffer target = ByteBuffer.wrap(data, offset, bytesToRead);
+		long position = size - bytesToRead;
+		while (target.hasRemaining()) {
+			int count = channel.read(target, position);
+			if (count < 0) {
+				break;
+			} else {
+				position += count;
+			}
+		}
+
+		return bytesToRead - target.remaining();
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		int position = offset;
+		int remaining = length;
+
+		while (remaining > buffer.remaining()) {
+			int count = buffer.remaining();
+			buffer.put(data, position, count);
+			position += count;
+			remaining -= count;
+			map(start + buffer.position());
+		}
+
+		buffer.put(data, position, remaining);
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		if (count <= buffer.position()) {
+			Buffer region = buffer;
+			region.position(region.position() - count);
+		} else {
+			map(Math.max(0, start + buffer.position() - count));
+		}
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() throws IOException {
+		long size = start + buffer.position();
+		buffer = null;
+
+		try {
+			file.setLength(size);
+		} catch (IOException ex) {
+			throw new IOException("Failed to truncate memory mapped file to its real length of " + size + " bytes", ex);
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Maps a new chunk of the file.
+	 *
+	 * @param position
+	 *            Start position of the chunk in the file
+	 * @throws IOException
+	 *             Mapping of the file failed
+	 */
+	private void map(final long position) throws IOException {
+		start = position;
+		buffer = channel.map(MapMode.READ_WRITE, position, chunkSize);
+	}
+
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe decorator to buffer output data for any {@link ByteArrayWriter} implementation by using a fixed pool of
+ * buffers, which are shared by producer threads.
+ *
+ * <p>
+ * The number of buffers is the number of available processors, rounded up to the next power of two. Each thread
+ * appends its data together with the current {@link System#nanoTime() nano time} to the buffer that is selected by the
+ * hash code of the thread. There is no global lock in the hot path, only the lock of the selected buffer. The memory
+ * of a buffer is allocated not until the first data is written to it. Buffers are merged, if a buffer is full, as well
+ * as by {@link #flush()}, {@link #readTail(byte[], int, int)}, {@link #truncate(int)}, and {@link #close()}. While
+ * merging, all buffered data of all buffers are written to the underlying writer in batches, ordered by the nano time
+ * of writing.
+ * </p>
+ *
+ * <p>
+ * The order of data written by the same thread is always preserved. Data written by different threads is ordered
+ * approximately, since data written concurrently to a merge can end up in the next merge.
+ * </p>
+ *
+ * <p>
+ * The configured capacity is shared by all buffers. Each buffer gets the capacity divided by the number of buffers,
+ * but at least 4 KB (or the whole capacity, if smaller). As each buffer allocates up to two chunks of this size, one
+ * to fill and one to merge, all buffers together need up to twice the configured capacity, or up to 8 KB per buffer
+ * for capacities that are too small to give each buffer 4 KB. In addition, one batch of the configured capacity is
+ * used for writing merged data to the underlying writer. Data that is bigger than the capacity of a single buffer is
+ * written directly.
+ * </p>
+ */
+public final class StripedWriterDecorator implements ByteArrayWriter {
+
+	private static final int INITIAL_RECORD_CAPACITY = 64;
+	private static final int MIN_STRIPE_CAPACITY = 4 * 1024; // 4 KB
+
+	private final ByteArrayWriter writer;
+	private final int stripeCapacity;
+
+	private final Lock lock;
+	private final Stripe[] stripes;
+	private final int mask;
+
+	private final Chunk[] chunks;
+	private final int[] positions;
+	private final int[] heap;
+	private final byte[] batch;
+	private int batchLength;
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param capacity
+	 *            Total capacity of all buffers and capacity of the batches for the underlying writer in bytes
+	 */
+	public StripedWriterDecorator(final ByteArrayWriter writer, final int capacity) {
+		int count = roundUpToPowerOfTwo(Runtime.getRuntime().availableProcessors());
+
+		this.writer = writer;
+		this.stripeCapacity = Math.max(capacity / count, Math.min(capacity, MIN_STRIPE_CAPACITY));
+
+		this.lock = new ReentrantLock();
+		this.stripes = new Stripe[count];
+		this.mask = count - 1;
+
+		for (int i = 0; i < count; ++i) {
+			stripes[i] = new Stripe();
+		}
+
+		this.chunks = new Chunk[count];
+		this.positions = new int[count];
+		this.heap = new int[count];
+		this.batch = new byte[capacity];
+		this.batchLength = 0;
+	}
+
+	@Override
+	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
+		lock.lock();
+		try {
+			merge();
+			return writer.readTail(data, offset, length);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void write(final byte[] data, final int length) throws IOException {
+		write(data, 0, length);
+	}
+
+	@Override
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		if (length > stripeCapacity) {
+			lock.lock();
+			try {
+				merge();
+				writer.write(data, offset, length);
+			} finally {
+				lock.unlock();
+			}
+		} else {
+			Stripe stripe = getStripe();
+
+			while (!stripe.append(data, offset, length, stripeCapacity)) {
+				lock.lock();
+				try {
+					merge();
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void truncate(final int count) throws IOException {
+		lock.lock();
+		try {
+			merge();
+			writer.truncate(count);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		lock.lock();
+		try {
+			merge();
+			writer.flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try {
+			merge();
+		} finally {
+			try {
+				writer.close();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Selects the buffer for the current thread by the hash code of the thread.
+	 *
+	 * @return Buffer for the current thread
+	 */
+	private Stripe getStripe() {
+		int hash = System.identityHashCode(Thread.currentThread());
+		return stripes[(hash ^ (hash >>> 16)) & mask];
+	}
+
+	/**
+	 * Collects the buffered data of all buffers and writes it ordered by nano time to the underlying writer. As the
+	 * records in each buffer are already ordered, the buffers are merged via a binary min-heap, which contains the
+	 * index of each buffer with remaining records and is ordered by the nano time of their next record.
+	 *
+	 * <p>
+	 * The global lock must be held by the current thread.
+	 * </p>
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	private void merge() throws IOException {
+		int size = 0;
+		for (int i = 0; i < stripes.length; ++i) {
+			Chunk chunk = stripes[i].swap();
+			if (chunk != null) {
+				chunks[size] = chunk;
+				positions[size] = 0;
+				heap[size] = size;
+				size += 1;
+			}
+		}
+
+		try {
+			for (int i = size / 2 - 1; i >= 0; --i) {
+				siftDown(i, size);
+			}
+
+			while (size > 0) {
+				int index = heap[0];
+				Chunk chunk = chunks[index];
+				int position = positions[index]++;
+				int start = position == 0 ? 0 : chunk.ends[position - 1];
+				append(chunk.data, start, chunk.ends[position] - start);
+
+				if (position + 1 == chunk.count) {
+					heap[0] = heap[--size];
+				}
+
+				if (size > 0) {
+					siftDown(0, size);
+				}
+			}
+
+			writeBatch();
+		} finally {
+			for (int i = 0; i < chunks.length; ++i) {
+				if (chunks[i] != null) {
+					chunks[i].clear();
+					chunks[i] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Moves an element of the heap down until the nano time of the next record of its buffer is not later than the
+	 * nano times of its children.
+	 *
+	 * @param index
+	 *            Index of the element in the heap
+	 * @param size
+	 *            Number of elements in the heap
+	 */
+	private void siftDown(final int index, final int size) {
+		int parent = index;
+		int element = heap[parent];
+		long timestamp = getNextTimestamp(element);
+
+		while (true) {
+			int child = parent * 2 + 1;
+			if (child >= size) {
+				break;
+			}
+
+			long childTimestamp = getNextTimestamp(heap[child]);
+			if (child + 1 < size) {
+				long siblingTimestamp = getNextTimestamp(heap[child + 1]);
+				if (siblingTimestamp - childTimestamp < 0) {
+					child += 1;
+					childTimestamp = siblingTimestamp;
+				}
+			}
+
+			if (timestamp - childTimestamp <= 0) {
+				break;
+			}
+
+			heap[parent] = heap[child];
+			parent = child;
+		}
+
+		heap[parent] = element;
+	}
+
+	/**
+	 * Gets the nano time of the next unmerged record of a buffer.
+	 *
+	 * @param index
+	 *            Index of the buffer
+	 * @return Nano time of writing
+	 */
+	private long getNextTimestamp(final int index) {
+		return chunks[index].timestamps[positions[index]];
+	}
+
+	/**
+	 * Appends data to the current batch. The batch is written to the underlying writer in advance, if the data doesn't
+	 * fit into the batch anymore.
+	 *
+	 * @param data
+	 *            Data to append
+	 * @param offset
+	 *            Start offset in passed data
+	 * @param length
+	 *            Number of bytes to append
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	private void append(final byte[] data, final int offset, final int length) throws IOException {
+		if (batchLength + length > batch.length) {
+			writeBatch();
+		}
+
+		System.arraycopy(data, offset, batch, batchLength, length);
+		batchLength += length;
+	}
+
+	/**
+	 * Writes the current batch to the underlying writer.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	private void writeBatch() throws IOException {
+		if (batchLength > 0) {
+			int length = batchLength;
+			batchLength = 0;
+			writer.write(batch, 0, length);
+		}
+	}
+
+	/**
+	 * Rounds up the passed number to the next power of two.
+	 *
+	 * @param number
+	 *            Positive number
+	 * @return Passed number, if it is already a power of two, otherwise the next greater power of two
+	 */
+	private static int roundUpToPowerOfTwo(final int number) {
+		return number <= 1 ? 1 : Integer.highestOneBit(number - 1) << 1;
+	}
+
+	/**
+	 * Buffer with records, each consisting of data and the nano time of writing.
+	 */
+	private static final class Chunk {
+
+		private final byte[] data;
+		private int length;
+
+		private long[] timestamps;
+		private int[] ends;
+		private int count;
+
+		/**
+		 * @param capacity
+		 *            Capacity of buffer in bytes
+		 */
+		private Chunk(final int capacity) {
+			this.data = new byte[capacity];
+			this.length = 0;
+			this.timestamps = new long[INITIAL_RECORD_CAPACITY];
+			this.ends = new int[INITIAL_RECORD_CAPACITY];
+			this.count = 0;
+		}
+
+		/**
+		 * Appends a new record, if there is enough space left.
+		 *
+		 * @param source
+		 *            Data to append
+		 * @param offset
+		 *            Start offset in passed data
+		 * @param size
+		 *            Number of bytes to append
+		 * @param timestamp
+		 *            Nano time of writing
+		 * @return {@code true} if the record has been appended, {@code false} if the buffer is full
+		 */
+		private boolean add(final byte[] source, final int offset, final int size, final long timestamp) {
+			if (length + size > data.length) {
+				return false;
+			}
+
+			if (count == ends.length) {
+				timestamps = Arrays.copyOf(timestamps, count * 2);
+				ends = Arrays.copyOf(ends, count * 2);
+			}
+
+			System.arraycopy(source, offset, data, length, size);
+			length += size;
+			timestamps[count] = timestamp;
+			ends[count] = length;
+			count += 1;
+
+			return true;
+		}
+
+		/**
+		 * Removes all records.
+		 */
+		private void clear() {
+			length = 0;
+			count = 0;
+		}
+
+	}
+
+	/**
+	 * Buffer that is shared by all producer threads with the same hash. Each stripe has up to two chunks. One is filled
+	 * by the producer threads, while the other can be merged. Both chunks are allocated lazily.
+	 */
+	private static final class Stripe {
+
+		private final Lock lock;
+		private Chunk active;
+		private Chunk spare;
+
+		/** */
+		private Stripe() {
+			this.lock = new ReentrantLock();
+		}
+
+		/**
+		 * Appends a new record to the active chunk. The nano time is taken while holding the lock of this stripe. This
+		 * ensures that the records of each chunk are ordered by their nano times.
+		 *
+		 * @param data
+		 *            Data to append
+		 * @param offset
+		 *            Start offset in passed data
+		 * @param length
+		 *            Number of bytes to append
+		 * @param capacity
+		 *            Capacity in bytes for allocating a new chunk
+		 * @return {@code true} if the record has been appended, {@code false} if the active chunk is full
+		 */
+		private boolean append(final byte[] data, final int offset, final int length, final int capacity) {
+			lock.lock();
+			try {
+				if (active == null) {
+					active = new Chunk(capacity);
+				}
+				return active.add(data, offset, length, System.nanoTime());
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Exchanges the active chunk with the spare chunk, if the active chunk contains any records. The spare chunk
+		 * must be empty.
+		 *
+		 * @return Previously active chunk or {@code null} if there are no records
+		 */
+		private Chunk swap() {
+			lock.lock();
+			try {
+				Chunk chunk = active;
+				if (chunk == null || chunk.count == 0) {
+					return null;
+				} else {
+					active = spare;
+					spare = chunk;
+					return chunk;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
+}
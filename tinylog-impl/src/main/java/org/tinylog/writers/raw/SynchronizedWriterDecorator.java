@@ -14,30 +14,72 @@
 package org.tinylog.writers.raw;
 
 import java.io.IOException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Thread-safe decorator for any {@link ByteArrayWriter} implementation.
+ *
+ * <p>
+ * A {@link ReentrantLock} is used instead of {@code synchronized}, since waiting for a monitor pins virtual threads to
+ * their carrier threads. Only the deprecated constructor with a mutex object still synchronizes on the passed mutex,
+ * as third-party code might rely on sharing it.
+ * </p>
  */
 public final class SynchronizedWriterDecorator implements ByteArrayWriter {
 
 	private final ByteArrayWriter writer;
+	private final Lock lock;
 	private final Object mutex;
 
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 */
+	public SynchronizedWriterDecorator(final ByteArrayWriter writer) {
+		this(writer, new ReentrantLock());
+	}
+
+	/**
+	 * @param writer
+	 *            Underlying writer
+	 * @param lock
+	 *            Lock for synchronizing access to the underlying writer
+	 */
+	public SynchronizedWriterDecorator(final ByteArrayWriter writer, final Lock lock) {
+		this.writer = writer;
+		this.lock = lock;
+		this.mutex = null;
+	}
+
 	/**
 	 * @param writer
 	 *            Underlying writer
 	 * @param mutex
 	 *            Mutex for synchronized
+	 *
+	 * @deprecated Replaced by {@link #SynchronizedWriterDecorator(ByteArrayWriter, Lock)}
 	 */
+	@Deprecated
 	public SynchronizedWriterDecorator(final ByteArrayWriter writer, final Object mutex) {
 		this.writer = writer;
+		this.lock = null;
 		this.mutex = mutex;
 	}
 
 	@Override
 	public int readTail(final byte[] data, final int offset, final int length) throws IOException {
-		synchronized (mutex) {
-			return writer.readTail(data, offset, length);
+		if (mutex == null) {
+			lock.lock();
+			try {
+				return writer.readTail(data, offset, length);
+			} finally {
+				lock.unlock();
+			}
+		} else {
+			synchronized (mutex) {
+				return writer.readTail(data, offset, length);
+			}
 		}
 	}
 
@@ -48,29 +90,65 @@ public final class SynchronizedWriterDecorator implements ByteArrayWriter {
 
 	@Override
 	public void write(final byte[] data, final int offset, final int length) throws IOException {
-		synchronized (mutex) {
-			writer.write(data, offset, length);
+		if (mutex == null) {
+			lock.lock();
+			try {
+				writer.write(data, offset, length);
+			} finally {
+				lock.unlock();
+			}
+		} else {
+			synchronized (mutex) {
+				writer.write(data, offset, length);
+			}
 		}
 	}
 
 	@Override
 	public void truncate(final int count) throws IOException {
-		synchronized (mutex) {
-			writer.truncate(count);
+		if (mutex == null) {
+			lock.lock();
+			try {
+				writer.truncate(count);
+			} finally {
+				lock.unlock();
+			}
+		} else {
+			synchronized (mutex) {
+				writer.truncate(count);
+			}
 		}
 	}
 
 	@Override
 	public void flush() throws IOException {
-		synchronized (mutex) {
-			writer.flush();
+		if (mutex == null) {
+			lock.lock();
+			try {
+				writer.flush();
+			} finally {
+				lock.unlock();
+			}
+		} else {
+			synchronized (mutex) {
+				writer.flush();
+			}
 		}
 	}
 
 	@Override
 	public void close() throws IOException {
-		synchronized (mutex) {
-			writer.close();
+		if (mutex == null) {
+			lock.lock();
+			try {
+				writer.close();
+			} finally {
+				lock.unlock();
+			}
+		} else {
+			synchronized (mutex) {
+				writer.close();
+			}
 		}
 	}
 
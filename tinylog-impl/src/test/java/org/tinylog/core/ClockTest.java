@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import org.junit.Test;
+import org.tinylog.runtime.RuntimeProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the implementations of {@link Clock}.
+ */
+public final class ClockTest {
+
+	private static final long MILLISECOND_IN_NANOS = 1_000_000L;
+
+	/**
+	 * Verifies that the precise clock creates the same kind of timestamps as the runtime.
+	 */
+	@Test
+	public void precise() {
+		Clock clock = TinylogLoggingConfiguration.createClock(ClockMode.PRECISE);
+
+		assertThat(clock.createTimestamp()).isInstanceOf(RuntimeProvider.createTimestamp().getClass());
+		assertCurrentTime(clock);
+	}
+
+	/**
+	 * Verifies that the cached clock provides the current time and is updated continuously.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the next tick
+	 */
+	@Test
+	public void cached() throws InterruptedException {
+		Clock clock = TinylogLoggingConfiguration.createClock(ClockMode.CACHED);
+		try {
+			assertThat(clock.createTimestamp()).isInstanceOf(MutableTimestamp.class);
+			assertCurrentTime(clock);
+
+			long first = clock.currentTimeNanos();
+			Thread.sleep(50);
+			assertThat(clock.currentTimeNanos()).isGreaterThan(first);
+		} finally {
+			clock.shutdown();
+		}
+	}
+
+	/**
+	 * Verifies that the clock anchored to {@link System#nanoTime()} provides the current time and never goes
+	 * backwards.
+	 */
+	@Test
+	public void nanotimeAnchored() {
+		Clock clock = TinylogLoggingConfiguration.createClock(ClockMode.NANOTIME_ANCHORED);
+
+		assertThat(clock.createTimestamp()).isInstanceOf(MutableTimestamp.class);
+		assertCurrentTime(clock);
+
+		long previous = clock.currentTimeNanos();
+		for (int i = 0; i < 1000; ++i) {
+			long current = clock.currentTimeNanos();
+			assertThat(current).isGreaterThanOrEqualTo(previous);
+			previous = current;
+		}
+	}
+
+	/**
+	 * Verifies that a clock provides the current time. The tolerance takes into account that the background thread of
+	 * a cached clock might not have been scheduled for a while on a busy machine.
+	 *
+	 * @param clock
+	 *            Clock to test
+	 */
+	private static void assertCurrentTime(final Clock clock) {
+		long before = (System.currentTimeMillis() - 100) * MILLISECOND_IN_NANOS;
+		long time = clock.currentTimeNanos();
+		long after = (System.currentTimeMillis() + 100) * MILLISECOND_IN_NANOS;
+
+		assertThat(time).isBetween(before, after);
+	}
+
+}
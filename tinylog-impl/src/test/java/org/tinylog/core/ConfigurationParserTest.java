@@ -13,8 +13,10 @@
 
 package org.tinylog.core;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.junit.After;
 import org.junit.Before;
@@ -252,6 +254,288 @@ public final class ConfigurationParserTest {
 		assertThat(enabled).isTrue();
 	}
 
+	/**
+	 * Verifies that the default queue size will be used for the writing thread, if there is no defined queue size.
+	 */
+	@Test
+	public void defaultWritingThreadQueueSize() {
+		int size = ConfigurationParser.getWritingThreadQueueSize();
+		assertThat(size).isEqualTo(WritingThread.DEFAULT_QUEUE_SIZE);
+	}
+
+	/**
+	 * Verifies that a defined queue size for the writing thread will be parsed correctly.
+	 */
+	@Test
+	public void definedWritingThreadQueueSize() {
+		Configuration.set("writingthread.queue.size", "1000");
+
+		int size = ConfigurationParser.getWritingThreadQueueSize();
+		assertThat(size).isEqualTo(1000);
+	}
+
+	/**
+	 * Verifies that an invalid queue size for the writing thread will be detected and the default queue size used.
+	 */
+	@Test
+	public void invalidWritingThreadQueueSize() {
+		Configuration.set("writingthread.queue.size", "abc");
+
+		int size = ConfigurationParser.getWritingThreadQueueSize();
+		assertThat(size).isEqualTo(WritingThread.DEFAULT_QUEUE_SIZE);
+
+		assertThat(systemStream.consumeErrorOutput())
+			.containsOnlyOnce("ERROR").containsOnlyOnce("queue size").containsOnlyOnce("abc");
+	}
+
+	/**
+	 * Verifies that a queue size of zero will be detected as invalid and the default queue size used.
+	 */
+	@Test
+	public void zeroWritingThreadQueueSize() {
+		Configuration.set("writingthread.queue.size", "0");
+
+		int size = ConfigurationParser.getWritingThreadQueueSize();
+		assertThat(size).isEqualTo(WritingThread.DEFAULT_QUEUE_SIZE);
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("queue size");
+	}
+
+	/**
+	 * Verifies that the writing thread blocks by default if its queue is full.
+	 */
+	@Test
+	public void defaultWritingThreadOverflowPolicy() {
+		assertThat(ConfigurationParser.getWritingThreadOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+		assertThat(ConfigurationParser.getWritingThreadOverflowLevel()).isEqualTo(Level.WARN);
+	}
+
+	/**
+	 * Verifies that a defined overflow policy without argument will be parsed correctly.
+	 */
+	@Test
+	public void definedWritingThreadOverflowPolicy() {
+		Configuration.set("writingthread.overflow", "drop-newest");
+
+		assertThat(ConfigurationParser.getWritingThreadOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_NEWEST);
+		assertThat(ConfigurationParser.getWritingThreadOverflowLevel()).isEqualTo(Level.WARN);
+	}
+
+	/**
+	 * Verifies that a defined overflow policy with severity level as argument will be parsed correctly.
+	 */
+	@Test
+	public void definedWritingThreadOverflowPolicyWithLevel() {
+		Configuration.set("writingthread.overflow", "drop-below-level: info");
+
+		assertThat(ConfigurationParser.getWritingThreadOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_BELOW_LEVEL);
+		assertThat(ConfigurationParser.getWritingThreadOverflowLevel()).isEqualTo(Level.INFO);
+	}
+
+	/**
+	 * Verifies that an invalid overflow policy will be detected and the writing thread blocks if its queue is full.
+	 */
+	@Test
+	public void invalidWritingThreadOverflowPolicy() {
+		Configuration.set("writingthread.overflow", "abc");
+
+		assertThat(ConfigurationParser.getWritingThreadOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+
+		assertThat(systemStream.consumeErrorOutput())
+			.containsOnlyOnce("ERROR").containsOnlyOnce("overflow policy").containsOnlyOnce("abc");
+	}
+
+	/**
+	 * Verifies that the writing thread polls its queue by default.
+	 */
+	@Test
+	public void defaultWritingThreadWaitStrategy() {
+		assertThat(ConfigurationParser.getWritingThreadWaitStrategy()).isEqualTo(WaitStrategy.SLEEP);
+		assertThat(ConfigurationParser.getWritingThreadBatchWindow()).isEqualTo(WritingThread.DEFAULT_BATCH_WINDOW);
+	}
+
+	/**
+	 * Verifies that a defined wait strategy without argument will be parsed correctly.
+	 */
+	@Test
+	public void definedWritingThreadWaitStrategy() {
+		Configuration.set("writingthread.wait", "park");
+
+		assertThat(ConfigurationParser.getWritingThreadWaitStrategy()).isEqualTo(WaitStrategy.PARK);
+		assertThat(ConfigurationParser.getWritingThreadBatchWindow()).isEqualTo(WritingThread.DEFAULT_BATCH_WINDOW);
+	}
+
+	/**
+	 * Verifies that a defined wait strategy with time window as argument will be parsed correctly.
+	 */
+	@Test
+	public void definedWritingThreadWaitStrategyWithBatchWindow() {
+		Configuration.set("writingthread.wait", "batch: 5");
+
+		assertThat(ConfigurationParser.getWritingThreadWaitStrategy()).isEqualTo(WaitStrategy.BATCH);
+		assertThat(ConfigurationParser.getWritingThreadBatchWindow()).isEqualTo(5);
+	}
+
+	/**
+	 * Verifies that the writing thread parks by default in virtual thread mode.
+	 */
+	@Test
+	public void defaultWritingThreadWaitStrategyInVirtualThreadMode() {
+		Configuration.set("virtualthreads", "true");
+
+		assertThat(ConfigurationParser.getWritingThreadWaitStrategy()).isEqualTo(WaitStrategy.PARK);
+	}
+
+	/**
+	 * Verifies that an invalid wait strategy will be detected and the writing thread polls its queue.
+	 */
+	@Test
+	public void invalidWritingThreadWaitStrategy() {
+		Configuration.set("writingthread.wait", "abc");
+
+		assertThat(ConfigurationParser.getWritingThreadWaitStrategy()).isEqualTo(WaitStrategy.SLEEP);
+
+		assertThat(systemStream.consumeErrorOutput())
+			.containsOnlyOnce("ERROR").containsOnlyOnce("wait strategy").containsOnlyOnce("abc");
+	}
+
+	/**
+	 * Verifies that an invalid time window for batching will be detected and the default time window used.
+	 */
+	@Test
+	public void invalidWritingThreadBatchWindow() {
+		Configuration.set("writingthread.wait", "batch: abc");
+
+		assertThat(ConfigurationParser.getWritingThreadBatchWindow()).isEqualTo(WritingThread.DEFAULT_BATCH_WINDOW);
+
+		assertThat(systemStream.consumeErrorOutput())
+			.containsOnlyOnce("ERROR").containsOnlyOnce("batch window").containsOnlyOnce("abc");
+	}
+
+	/**
+	 * Verifies that virtual thread mode is disabled by default.
+	 */
+	@Test
+	public void noConfiguredVirtualThreadMode() {
+		assertThat(ConfigurationParser.isVirtualThreadModeEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that virtual thread mode can be enabled.
+	 */
+	@Test
+	public void enabledVirtualThreadMode() {
+		Configuration.set("virtualthreads", "true");
+
+		assertThat(ConfigurationParser.isVirtualThreadModeEnabled()).isTrue();
+	}
+
+	/**
+	 * Verifies that the precise clock is used by default.
+	 */
+	@Test
+	public void defaultClockMode() {
+		assertThat(ConfigurationParser.getClockMode()).isEqualTo(ClockMode.PRECISE);
+	}
+
+	/**
+	 * Verifies that a defined clock mode will be parsed correctly.
+	 */
+	@Test
+	public void definedClockMode() {
+		Configuration.set("clock", "nanotime-anchored");
+		assertThat(ConfigurationParser.getClockMode()).isEqualTo(ClockMode.NANOTIME_ANCHORED);
+	}
+
+	/**
+	 * Verifies that an invalid clock mode will be detected and the precise clock is used instead.
+	 */
+	@Test
+	public void invalidClockMode() {
+		Configuration.set("clock", "abc");
+
+		assertThat(ConfigurationParser.getClockMode()).isEqualTo(ClockMode.PRECISE);
+
+		assertThat(systemStream.consumeErrorOutput())
+			.containsOnlyOnce("ERROR").containsOnlyOnce("clock mode").containsOnlyOnce("abc");
+	}
+
+	/**
+	 * Verifies that the location is resolved eagerly by default.
+	 */
+	@Test
+	public void noConfiguredLazyLocation() {
+		assertThat(ConfigurationParser.isLazyLocationEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that lazy resolution of the location can be enabled.
+	 */
+	@Test
+	public void enabledLazyLocation() {
+		Configuration.set("writingthread.location", "lazy");
+
+		assertThat(ConfigurationParser.isLazyLocationEnabled()).isTrue();
+	}
+
+	/**
+	 * Verifies that text messages are formatted immediately by default.
+	 */
+	@Test
+	public void noConfiguredDeferredFormatting() {
+		assertThat(ConfigurationParser.isDeferredFormattingEnabled()).isFalse();
+		assertThat(ConfigurationParser.getDeferrableArgumentTypes()).isEmpty();
+	}
+
+	/**
+	 * Verifies that deferred formatting can be enabled.
+	 */
+	@Test
+	public void enabledDeferredFormatting() {
+		Configuration.set("writingthread.formatting", "deferred");
+
+		assertThat(ConfigurationParser.isDeferredFormattingEnabled()).isTrue();
+	}
+
+	/**
+	 * Verifies that additional argument types for deferred formatting will be loaded correctly.
+	 */
+	@Test
+	public void definedDeferrableArgumentTypes() {
+		Configuration.set("writingthread.formatting.types", "java.util.UUID, java.math.BigDecimal");
+
+		assertThat(ConfigurationParser.getDeferrableArgumentTypes()).containsExactly(UUID.class, BigDecimal.class);
+	}
+
+	/**
+	 * Verifies that an error will be reported for unknown argument types for deferred formatting.
+	 */
+	@Test
+	public void invalidDeferrableArgumentTypes() {
+		Configuration.set("writingthread.formatting.types", "java.util.UUID, invalid.Type");
+
+		assertThat(ConfigurationParser.getDeferrableArgumentTypes()).containsExactly(UUID.class);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce("invalid.Type");
+	}
+
+	/**
+	 * Verifies that garbage-free mode is disabled by default.
+	 */
+	@Test
+	public void noConfiguredGarbageFreeMode() {
+		assertThat(ConfigurationParser.isGarbageFreeModeEnabled()).isFalse();
+	}
+
+	/**
+	 * Verifies that garbage-free mode can be enabled.
+	 */
+	@Test
+	public void enabledGarbageFreeMode() {
+		Configuration.set("garbagefree", "true");
+
+		assertThat(ConfigurationParser.isGarbageFreeModeEnabled()).isTrue();
+	}
+
 	/**
 	 * Verifies that auto shutdown is disabled by default.
 	 */
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DeferrableArgumentTypes}.
+ */
+public final class DeferrableArgumentTypesTest {
+
+	/**
+	 * Verifies that {@code null}, strings, and boxed primitives are always deferrable.
+	 */
+	@Test
+	public void builtInTypes() {
+		DeferrableArgumentTypes types = new DeferrableArgumentTypes(Collections.emptyList());
+
+		assertThat(types.isDeferrable(new Object[0])).isTrue();
+		assertThat(types.isDeferrable(new Object[] {null, "text", 'c', true})).isTrue();
+		assertThat(types.isDeferrable(new Object[] {(byte) 1, (short) 2, 3, 4L, 5F, 6D})).isTrue();
+	}
+
+	/**
+	 * Verifies that arguments of mutable or unknown types are not deferrable.
+	 */
+	@Test
+	public void unknownTypes() {
+		DeferrableArgumentTypes types = new DeferrableArgumentTypes(Collections.emptyList());
+
+		assertThat(types.isDeferrable(new Object[] {new StringBuilder("text")})).isFalse();
+		assertThat(types.isDeferrable(new Object[] {"text", new Date()})).isFalse();
+		assertThat(types.isDeferrable(new Object[] {UUID.randomUUID()})).isFalse();
+	}
+
+	/**
+	 * Verifies that registered types and their subtypes are deferrable.
+	 */
+	@Test
+	public void registeredTypes() {
+		DeferrableArgumentTypes types = new DeferrableArgumentTypes(Collections.<Class<?>>singletonList(Number.class));
+
+		assertThat(types.isDeferrable(new Object[] {BigDecimal.ONE, 42})).isTrue();
+		assertThat(types.isDeferrable(new Object[] {BigDecimal.ONE, UUID.randomUUID()})).isFalse();
+	}
+
+}
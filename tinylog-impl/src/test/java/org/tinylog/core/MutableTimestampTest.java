@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.Test;
+import org.tinylog.runtime.LegacyTimestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MutableTimestamp}.
+ */
+public final class MutableTimestampTest {
+
+	/**
+	 * Verifies that the timestamp can be set and read in nanoseconds and milliseconds.
+	 */
+	@Test
+	public void precision() {
+		MutableTimestamp timestamp = new MutableTimestamp(1_000_123_456_789L);
+		assertThat(timestamp.getNanoseconds()).isEqualTo(1_000_123_456_789L);
+		assertThat(timestamp.getMilliseconds()).isEqualTo(1_000_123L);
+
+		timestamp.setMilliseconds(2_000L);
+		assertThat(timestamp.getNanoseconds()).isEqualTo(2_000_000_000L);
+		assertThat(timestamp.getMilliseconds()).isEqualTo(2_000L);
+	}
+
+	/**
+	 * Verifies that a timestamp can be converted into {@link Date}, {@link Instant} and
+	 * {@link java.sql.Timestamp SQL Timestamp}.
+	 */
+	@Test
+	public void converting() {
+		MutableTimestamp timestamp = new MutableTimestamp();
+		timestamp.setMilliseconds(1_000_123L);
+
+		assertThat(timestamp.toDate()).isEqualTo(new Date(1_000_123L));
+		assertThat(timestamp.toInstant()).isEqualTo(Instant.ofEpochMilli(1_000_123L));
+		assertThat(timestamp.toSqlTimestamp()).isEqualTo(new java.sql.Timestamp(1_000_123L));
+	}
+
+	/**
+	 * Verifies that a timestamp with nanosecond precision can be converted into {@link Instant} and
+	 * {@link java.sql.Timestamp SQL Timestamp} without losing precision.
+	 */
+	@Test
+	public void convertingWithNanoseconds() {
+		MutableTimestamp timestamp = new MutableTimestamp(1_000_123_456_789L);
+
+		assertThat(timestamp.toInstant()).isEqualTo(Instant.ofEpochSecond(1_000, 123_456_789));
+		assertThat(timestamp.toSqlTimestamp().getNanos()).isEqualTo(123_456_789);
+		assertThat(timestamp.toDate()).isEqualTo(new Date(1_000_123L));
+	}
+
+	/**
+	 * Verifies that the same {@link Instant} is returned as long as the time has not been changed.
+	 */
+	@Test
+	public void reusingInstant() {
+		MutableTimestamp timestamp = new MutableTimestamp(1_000_123_456_789L);
+
+		Instant instant = timestamp.toInstant();
+		assertThat(timestamp.toInstant()).isSameAs(instant);
+
+		timestamp.setNanoseconds(2_000_000_000_001L);
+		assertThat(timestamp.toInstant()).isNotSameAs(instant).isEqualTo(Instant.ofEpochSecond(2_000, 1));
+	}
+
+	/**
+	 * Verifies that the difference to other timestamps can be calculated in nanoseconds.
+	 */
+	@Test
+	public void calcDifferenceInNanoseconds() {
+		MutableTimestamp timestamp = new MutableTimestamp();
+		timestamp.setMilliseconds(2_000L);
+
+		MutableTimestamp other = new MutableTimestamp();
+		other.setMilliseconds(1_500L);
+
+		assertThat(timestamp.calcDifferenceInNanoseconds(other)).isEqualTo(500_000_000L);
+		assertThat(timestamp.calcDifferenceInNanoseconds(new LegacyTimestamp(1_000L))).isEqualTo(1_000_000_000L);
+	}
+
+}
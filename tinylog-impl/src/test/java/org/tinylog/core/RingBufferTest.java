@@ -0,0 +1,297 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.tinylog.Level;
+import org.tinylog.util.LogEntryBuilder;
+import org.tinylog.writers.Writer;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RingBuffer}.
+ */
+public final class RingBufferTest {
+
+	/**
+	 * Verifies that the capacity will be rounded up to the next power of two.
+	 */
+	@Test
+	public void capacity() {
+		assertThat(new RingBuffer(0).getCapacity()).isEqualTo(1);
+		assertThat(new RingBuffer(1).getCapacity()).isEqualTo(1);
+		assertThat(new RingBuffer(3).getCapacity()).isEqualTo(4);
+		assertThat(new RingBuffer(1024).getCapacity()).isEqualTo(1024);
+		assertThat(new RingBuffer(1025).getCapacity()).isEqualTo(2048);
+	}
+
+	/**
+	 * Verifies that a new ring buffer is empty.
+	 */
+	@Test
+	public void empty() {
+		RingBuffer buffer = new RingBuffer(4);
+		assertThat(buffer.peek()).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that added log entries can be taken in the same order as they have been added.
+	 */
+	@Test
+	public void fifo() {
+		Collection<Writer> first = singletonList(mock(Writer.class));
+		Collection<Writer> second = singletonList(mock(Writer.class));
+		LogEntry firstEntry = LogEntryBuilder.empty().message("first").create();
+		LogEntry secondEntry = LogEntryBuilder.empty().message("second").create();
+
+		RingBuffer buffer = new RingBuffer(4);
+		assertThat(buffer.offer(first, firstEntry)).isTrue();
+		assertThat(buffer.offer(second, secondEntry)).isTrue();
+
+		long sequence = buffer.peek();
+		assertThat(sequence).isEqualTo(0);
+		assertThat(buffer.getWriters(sequence)).isSameAs(first);
+		assertThat(buffer.getLogEntry(sequence)).isSameAs(firstEntry);
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+
+		sequence = buffer.peek();
+		assertThat(sequence).isEqualTo(1);
+		assertThat(buffer.getWriters(sequence)).isSameAs(second);
+		assertThat(buffer.getLogEntry(sequence)).isSameAs(secondEntry);
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+
+		assertThat(buffer.peek()).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that no further log entries can be added to a full ring buffer until a slot has been released.
+	 */
+	@Test
+	public void full() {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		RingBuffer buffer = new RingBuffer(2);
+		assertThat(buffer.offer(writers, entry)).isTrue();
+		assertThat(buffer.offer(writers, entry)).isTrue();
+		assertThat(buffer.offer(writers, entry)).isFalse();
+
+		long sequence = buffer.peek();
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+		assertThat(buffer.offer(writers, entry)).isTrue();
+		assertThat(buffer.offer(writers, entry)).isFalse();
+	}
+
+	/**
+	 * Verifies that slots are reused after wrapping around.
+	 */
+	@Test
+	public void wrapAround() {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		RingBuffer buffer = new RingBuffer(2);
+
+		for (int i = 0; i < 10; ++i) {
+			LogEntry entry = LogEntryBuilder.empty().message(Integer.toString(i)).create();
+			assertThat(buffer.offer(writers, entry)).isTrue();
+			long sequence = buffer.peek();
+			assertThat(sequence).isEqualTo(i);
+			assertThat(buffer.getLogEntry(sequence)).isSameAs(entry);
+			assertThat(buffer.take(sequence)).isTrue();
+			buffer.release(sequence);
+			assertThat(buffer.peek()).isEqualTo(-1);
+		}
+	}
+
+	/**
+	 * Verifies that log entries from multiple producer threads are neither lost nor duplicated.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a producer thread
+	 */
+	@Test
+	public void multipleProducers() throws InterruptedException {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		LogEntry entry = LogEntryBuilder.empty().create();
+		RingBuffer buffer = new RingBuffer(64);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 1000; ++j) {
+					while (!buffer.offer(writers, entry)) {
+						Thread.yield();
+					}
+				}
+			}));
+		}
+
+		threads.forEach(Thread::start);
+
+		int count = 0;
+		while (count < 10 * 1000) {
+			long sequence = buffer.peek();
+			if (sequence < 0) {
+				Thread.yield();
+			} else {
+				assertThat(buffer.getWriters(sequence)).isSameAs(writers);
+				assertThat(buffer.getLogEntry(sequence)).isSameAs(entry);
+				assertThat(buffer.take(sequence)).isTrue();
+				buffer.release(sequence);
+				++count;
+			}
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(buffer.peek()).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that the oldest log entry can be discarded by a producer to make room for a new log entry.
+	 */
+	@Test
+	public void discardOldest() {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		LogEntry first = LogEntryBuilder.empty().message("first").create();
+		LogEntry second = LogEntryBuilder.empty().message("second").create();
+		LogEntry third = LogEntryBuilder.empty().message("third").create();
+
+		RingBuffer buffer = new RingBuffer(2);
+		buffer.offer(writers, first);
+		buffer.offer(writers, second);
+		assertThat(buffer.offer(writers, third)).isFalse();
+
+		assertThat(buffer.discardOldest()).isTrue();
+		assertThat(buffer.offer(writers, third)).isTrue();
+
+		long sequence = buffer.peek();
+		assertThat(buffer.getLogEntry(sequence)).isSameAs(second);
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+
+		sequence = buffer.peek();
+		assertThat(buffer.getLogEntry(sequence)).isSameAs(third);
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+	}
+
+	/**
+	 * Verifies that nothing can be discarded from an empty ring buffer and slots without writers are never discarded.
+	 */
+	@Test
+	public void discardNothing() {
+		RingBuffer buffer = new RingBuffer(2);
+		assertThat(buffer.discardOldest()).isFalse();
+
+		buffer.offer(null, null);
+		assertThat(buffer.discardOldest()).isFalse();
+		assertThat(buffer.peek()).isEqualTo(0);
+	}
+
+	/**
+	 * Verifies that the consumer cannot take a slot that has been already discarded by a producer.
+	 */
+	@Test
+	public void takeDiscarded() {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		RingBuffer buffer = new RingBuffer(2);
+		buffer.offer(writers, entry);
+
+		long sequence = buffer.peek();
+		assertThat(buffer.discardOldest()).isTrue();
+		assertThat(buffer.take(sequence)).isFalse();
+		assertThat(buffer.peek()).isEqualTo(-1);
+	}
+
+	/**
+	 * Verifies that a slot that has been taken by the consumer can be neither discarded nor reused before it has been
+	 * released.
+	 */
+	@Test
+	public void discardTaken() {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		RingBuffer buffer = new RingBuffer(1);
+		buffer.offer(writers, entry);
+
+		long sequence = buffer.peek();
+		assertThat(buffer.take(sequence)).isTrue();
+		assertThat(buffer.discardOldest()).isFalse();
+		assertThat(buffer.offer(writers, entry)).isFalse();
+
+		buffer.release(sequence);
+		assertThat(buffer.offer(writers, entry)).isTrue();
+	}
+
+	/**
+	 * Verifies that reusable log entries are copied into log entries that are owned by the slots and reused when the
+	 * slots are reused.
+	 */
+	@Test
+	public void copyReusableLogEntries() {
+		Collection<Writer> writers = singletonList(mock(Writer.class));
+		LogEntry entry = new LogEntry();
+		RingBuffer buffer = new RingBuffer(1);
+
+		fill(entry, "first");
+		assertThat(buffer.offer(writers, entry)).isTrue();
+		fill(entry, "second");
+
+		long sequence = buffer.peek();
+		LogEntry copy = buffer.getLogEntry(sequence);
+		assertThat(copy).isNotSameAs(entry);
+		assertThat(copy.isReusable()).isTrue();
+		assertThat(copy.getMessage()).isEqualTo("first");
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+
+		assertThat(buffer.offer(writers, entry)).isTrue();
+
+		sequence = buffer.peek();
+		assertThat(buffer.getLogEntry(sequence)).isSameAs(copy);
+		assertThat(copy.getMessage()).isEqualTo("second");
+		assertThat(buffer.take(sequence)).isTrue();
+		buffer.release(sequence);
+	}
+
+	/**
+	 * Fills a reusable log entry with a new text message.
+	 *
+	 * @param logEntry
+	 *            Reusable log entry
+	 * @param message
+	 *            Text message
+	 */
+	private static void fill(final LogEntry logEntry, final String message) {
+		logEntry.reset(null, null, null, null, null, -1, null, Level.INFO, null);
+		logEntry.getMessageBuilder().append(message);
+		logEntry.commitMessage();
+	}
+
+}
@@ -13,6 +13,9 @@
 
 package org.tinylog.core;
 
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -122,4 +125,28 @@ public final class TinylogContextProviderTest {
 		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
 	}
 
+	/**
+	 * Verifies that a child thread doesn't inherit values from parent thread if inheritance is disabled.
+	 *
+	 * @throws InterruptedException
+	 *             Failed waiting for child thread
+	 */
+	@Test
+	public void noInheritance() throws InterruptedException {
+		TinylogContextProvider provider = new TinylogContextProvider(false);
+		provider.put("a", 1);
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+
+		AtomicReference<Map<String, String>> childMapping = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			childMapping.set(provider.getMapping());
+			provider.put("b", 2);
+		});
+		thread.start();
+		thread.join();
+
+		assertThat(childMapping.get()).isEmpty();
+		assertThat(provider.getMapping()).containsOnly(entry("a", "1"));
+	}
+
 }
@@ -375,6 +375,33 @@ public final class TinylogLoggingConfigurationTest {
 		assertThat(values[1][1]).isEmpty();
 	}	
 	
+	/**
+	 * Verifies that required log entry values are converted properly into bitmasks.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void calcRequiredLogEntryValueMasks() {
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+
+		Collection<LogEntryValue>[][] values = new Collection[2][Level.values().length - 1];
+		for (Collection<LogEntryValue>[] value: values) {
+			Arrays.fill(value, Collections.emptyList());
+		}
+		values[0][0] = Collections.singleton(LogEntryValue.TAG);
+		values[1][1] = Arrays.asList(LogEntryValue.CLASS, LogEntryValue.THREAD);
+
+		int[][] masks = config.calculateRequiredLogEntryValueMasks(values);
+		assertThat(masks).hasSameDimensionsAs(values);
+
+		for (LogEntryValue value : LogEntryValue.values()) {
+			assertThat(TinylogLoggingConfiguration.isRequired(masks[0][0], value)).isEqualTo(value == LogEntryValue.TAG);
+			assertThat(TinylogLoggingConfiguration.isRequired(masks[0][1], value)).isFalse();
+			assertThat(TinylogLoggingConfiguration.isRequired(masks[1][0], value)).isFalse();
+			assertThat(TinylogLoggingConfiguration.isRequired(masks[1][1], value))
+				.isEqualTo(value == LogEntryValue.CLASS || value == LogEntryValue.THREAD);
+		}
+	}
+
 	/**
 	 * Verifies that the full stack trace requirements are calculated properly from the log entries.
 	 */
@@ -401,6 +428,33 @@ public final class TinylogLoggingConfigurationTest {
 		assertThat(requirements.get(4)).isTrue();
 	}	
 
+	/**
+	 * Verifies that full stack trace requirements are detected properly in masks of required log entry values.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void calcFullStackTraceRequirementMasks() {
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+		
+		Collection<LogEntryValue>[][] logEntries = new Collection[5][Level.values().length - 1];
+		for (Collection<LogEntryValue>[] logEntry: logEntries) {
+			Arrays.fill(logEntry, Collections.emptyList());
+		}
+		logEntries[0][Level.ERROR.ordinal()] = Collections.singleton(LogEntryValue.CLASS);
+		logEntries[1][Level.ERROR.ordinal()] = Collections.singleton(LogEntryValue.METHOD);
+		logEntries[2][Level.ERROR.ordinal()] = Collections.singleton(LogEntryValue.FILE);
+		logEntries[3][Level.ERROR.ordinal()] = Collections.singleton(LogEntryValue.LINE);
+		logEntries[4][Level.ERROR.ordinal()] = Arrays.asList(LogEntryValue.FILE, LogEntryValue.LINE);
+		
+		int[][] masks = config.calculateRequiredLogEntryValueMasks(logEntries);
+		assertThat(TinylogLoggingConfiguration.isFullStackTraceRequired(masks[0][Level.ERROR.ordinal()])).isFalse();
+		assertThat(TinylogLoggingConfiguration.isFullStackTraceRequired(masks[1][Level.ERROR.ordinal()])).isTrue();
+		assertThat(TinylogLoggingConfiguration.isFullStackTraceRequired(masks[2][Level.ERROR.ordinal()])).isTrue();
+		assertThat(TinylogLoggingConfiguration.isFullStackTraceRequired(masks[3][Level.ERROR.ordinal()])).isTrue();
+		assertThat(TinylogLoggingConfiguration.isFullStackTraceRequired(masks[4][Level.ERROR.ordinal()])).isTrue();
+		assertThat(TinylogLoggingConfiguration.isFullStackTraceRequired(masks[4][Level.INFO.ordinal()])).isFalse();
+	}
+
 	/**
 	 * Verifies that all writers can be obained.
 	 */
@@ -420,8 +474,88 @@ public final class TinylogLoggingConfigurationTest {
 			.hasSize(4)
 			.hasAtLeastOneElementOfType(WriterOne.class)
 			.hasAtLeastOneElementOfType(WriterTwo.class);
-	}		
-	
+	}
+
+	/**
+	 * Verifies that a single writing thread will be created for all writers if no writer is assigned to a named writing
+	 * thread.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the writing threads
+	 */
+	@Test
+	public void createSingleWritingThread() throws InterruptedException {
+		Configuration.set("writer1", "console");
+		Configuration.set("writer2", "console");
+
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+		Collection<Writer>[][] writers = config.createWriters(emptyList(), Level.TRACE, true);
+		List<WritingThread> threads = config.createWritingThreads(writers);
+
+		try {
+			assertThat(threads).hasSize(1);
+			assertThat(threads.get(0).getName()).isEqualTo("tinylog-WritingThread");
+			assertThat(threads.get(0).getWriters()).hasSize(2);
+		} finally {
+			shutdown(threads);
+		}
+	}
+
+	/**
+	 * Verifies that writers with a {@code thread} property get their own writing thread.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the writing threads
+	 */
+	@Test
+	public void createGroupedWritingThreads() throws InterruptedException {
+		Configuration.set("writer1", "console");
+		Configuration.set("writer2", "console");
+		Configuration.set("writer2.thread", "slow");
+		Configuration.set("writer3", "console");
+		Configuration.set("writer3.thread", "fast");
+		Configuration.set("writer4", "console");
+		Configuration.set("writer4.thread", "slow");
+
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+		Collection<Writer>[][] writers = config.createWriters(emptyList(), Level.TRACE, true);
+		List<WritingThread> threads = config.createWritingThreads(writers);
+
+		try {
+			assertThat(threads).extracting(Thread::getName).containsExactly(
+				"tinylog-WritingThread",
+				"tinylog-WritingThread-fast",
+				"tinylog-WritingThread-slow"
+			);
+			assertThat(threads).extracting(thread -> thread.getWriters().size()).containsExactly(1, 1, 2);
+			assertThat(threads).allSatisfy(thread -> assertThat(thread.isAlive()).isTrue());
+		} finally {
+			shutdown(threads);
+		}
+	}
+
+	/**
+	 * Verifies that no default writing thread will be created if all writers are assigned to named writing threads.
+	 *
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the writing threads
+	 */
+	@Test
+	public void createOnlyGroupedWritingThreads() throws InterruptedException {
+		Configuration.set("writer", "console");
+		Configuration.set("writer.thread", "console");
+
+		TinylogLoggingConfiguration config = new TinylogLoggingConfiguration();
+		Collection<Writer>[][] writers = config.createWriters(emptyList(), Level.TRACE, true);
+		List<WritingThread> threads = config.createWritingThreads(writers);
+
+		try {
+			assertThat(threads).extracting(Thread::getName).containsExactly("tinylog-WritingThread-console");
+		} finally {
+			shutdown(threads);
+		}
+	}
+
 	/**
 	 * Verifies that a log entry can be created properly.
 	 */
@@ -462,6 +596,23 @@ public final class TinylogLoggingConfigurationTest {
 		return Stream.of(array).flatMap(Stream::of).collect(Collectors.toList());
 	}
 
+	/**
+	 * Shuts down writing threads and waits until all of them are down.
+	 *
+	 * @param threads
+	 *            Writing threads to shut down
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a writing thread
+	 */
+	private static void shutdown(final List<WritingThread> threads) throws InterruptedException {
+		for (WritingThread thread : threads) {
+			thread.shutdown();
+		}
+		for (WritingThread thread : threads) {
+			thread.join();
+		}
+	}
+
 	/**
 	 * Dummy writer class for log entry testing.
 	 */
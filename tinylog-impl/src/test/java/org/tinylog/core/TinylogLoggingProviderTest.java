@@ -17,7 +17,10 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.assertj.core.api.Condition;
 import org.junit.After;
@@ -30,6 +33,7 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.mockito.InOrder;
 import org.powermock.reflect.Whitebox;
 import org.tinylog.Level;
 import org.tinylog.Supplier;
@@ -46,8 +50,12 @@ import org.tinylog.writers.ConsoleWriter;
 import org.tinylog.writers.Writer;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.tinylog.util.Maps.doubletonMap;
 import static org.tinylog.util.ResultObserver.waitFor;
 
@@ -327,6 +335,41 @@ public final class TinylogLoggingProviderTest {
 			assertThat(provider.getMinimumLevel(tag)).isEqualTo(Level.DEBUG);
 		}
 
+		/**
+		 * Verifies that resolved severity levels are cached per class name and that the caller class is not resolved
+		 * for severity levels without any writers.
+		 */
+		@Test
+		public void cacheResolvedSeverityLevels() {
+			Map<String, Level> classLevels = Whitebox.getInternalState(provider, "classLevels");
+			assertThat(classLevels).isEmpty();
+
+			assertThat(provider.isEnabled(DEPTH_INNER_CLASS, tag, Level.TRACE)).isFalse();
+			assertThat(classLevels).isEmpty();
+
+			assertThat(provider.isEnabled(DEPTH_INNER_CLASS, tag, Level.DEBUG)).isTrue();
+			assertThat(classLevels).containsOnly(entry(CustomSeverityLevelForClass.class.getName(), Level.DEBUG));
+
+			provider.log(TinylogLoggingProvider.class.getName(), tag, Level.INFO, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo(Level.INFO + ": Hello World!" + NEW_LINE);
+			assertThat(classLevels).containsOnly(entry(CustomSeverityLevelForClass.class.getName(), Level.DEBUG));
+		}
+
+		/**
+		 * Verifies that custom severity levels are applied to the class of a precomputed location.
+		 */
+		@Test
+		public void precomputedLocation() {
+			StackTraceElement inner = new StackTraceElement(CustomSeverityLevelForClass.class.getName(), "foo", null, -1);
+			StackTraceElement outer = new StackTraceElement(TinylogLoggingProviderTest.class.getName(), "foo", null, -1);
+
+			provider.log(inner, tag, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo(Level.DEBUG + ": Hello World!" + NEW_LINE);
+
+			provider.log(outer, tag, Level.DEBUG, null, null, "Hello World!");
+			assertThat(systemStream.consumeStandardOutput()).isEmpty();
+		}
+
 		/**
 		 * Verifies that trace severity level is disabled and no log entries will be output for inner class.
 		 */
@@ -794,6 +837,311 @@ public final class TinylogLoggingProviderTest {
 
 	}
 
+	/**
+	 * Tests for logging with a writing thread that resolves the location of log entries lazily.
+	 */
+	public static final class LazyLocation extends AbstractTest {
+
+		/**
+		 * Activates writing thread with lazy location resolution and a console writer that outputs the location.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("writingthread", "true");
+			configuration.put("writingthread.location", "lazy");
+			configuration.put("autoshutdown", "false");
+			configuration.put("writer", "console");
+			configuration.put("writer.format", "{class}.{method}() {message}");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Shuts down the logging provider.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+		}
+
+		/**
+		 * Verifies that the location of a log entry is resolved correctly on the writing thread.
+		 */
+		@Test
+		public void location() {
+			provider.log(1, null, Level.INFO, null, null, "Hello World!");
+			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
+			assertThat(output).isEqualTo(LazyLocation.class.getName() + ".location() Hello World!" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that the location of a log entry is resolved correctly on the writing thread, if the logging
+		 * caller is identified by the logger class name.
+		 */
+		@Test
+		public void locationByLoggerClassName() {
+			provider.log(TinylogLoggingProvider.class.getName(), null, Level.INFO, null, null, "Hello World!");
+			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
+			assertThat(output).isEqualTo(LazyLocation.class.getName() + ".locationByLoggerClassName() Hello World!" + NEW_LINE);
+		}
+
+	}
+
+	/**
+	 * Tests for logging with a writing thread that formats text messages with immutable arguments.
+	 */
+	public static final class DeferredFormatting extends AbstractTest {
+
+		/**
+		 * Activates writing thread with deferred formatting and registers {@link ThreadName} as immutable type.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("writingthread", "true");
+			configuration.put("writingthread.formatting", "deferred");
+			configuration.put("writingthread.formatting.types", ThreadName.class.getName());
+			configuration.put("autoshutdown", "false");
+			configuration.put("writer", "console");
+			configuration.put("writer.format", "{message}");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Shuts down the logging provider.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+		}
+
+		/**
+		 * Verifies that text messages with arguments of registered immutable types are formatted by the writing thread.
+		 */
+		@Test
+		public void immutableArguments() {
+			provider.log(1, null, Level.INFO, null, new AdvancedMessageFormatter(Locale.ROOT, false), "{}: {}",
+				new ThreadName(), 42);
+			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
+			assertThat(output).startsWith("tinylog-WritingThread").endsWith(": 42" + NEW_LINE);
+		}
+
+		/**
+		 * Verifies that text messages with arguments of other types are formatted by the issuing thread.
+		 */
+		@Test
+		public void mutableArguments() {
+			Object argument = new Object() {
+				@Override
+				public String toString() {
+					return Thread.currentThread().getName();
+				}
+			};
+
+			provider.log(1, null, Level.INFO, null, new AdvancedMessageFormatter(Locale.ROOT, false), "{}: {}",
+				argument, 42);
+			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
+			assertThat(output).isEqualTo(Thread.currentThread().getName() + ": 42" + NEW_LINE);
+		}
+
+		/**
+		 * Immutable argument that outputs the name of the formatting thread.
+		 */
+		private static final class ThreadName {
+
+			@Override
+			public String toString() {
+				return Thread.currentThread().getName();
+			}
+
+		}
+
+	}
+
+	/**
+	 * Tests for logging with writers that are assigned to separate writing threads.
+	 */
+	public static final class WritingThreadGroups extends AbstractTest {
+
+		private static final Condition<Thread> writingThread = new Condition<>(WritingThread.class::isInstance, "WritingThread");
+
+		/**
+		 * Assigns the storage writer to its own writing thread and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("writingthread", "true");
+			configuration.put("autoshutdown", "false");
+			configuration.put("writer1", "console");
+			configuration.put("writer2", StorageWriter.class.getName());
+			configuration.put("writer2.thread", "storage");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Shuts down the logging provider.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@After
+		public void shutdown() throws InterruptedException {
+			provider.shutdown();
+			assertThat(Thread.getAllStackTraces().keySet()).doNotHave(writingThread);
+			StorageWriter.consumeEntries();
+		}
+
+		/**
+		 * Verifies that the default and the named writing thread are running.
+		 */
+		@Test
+		public void running() {
+			assertThat(Thread.getAllStackTraces().keySet()).haveExactly(2, writingThread);
+		}
+
+		/**
+		 * Verifies that log entries will be output by the writers of both writing threads.
+		 */
+		@Test
+		public void logging() {
+			provider.log(1, null, Level.INFO, null, null, "Hello World!");
+
+			String output = waitFor(systemStream::consumeStandardOutput, Strings::isNeitherNullNorEmpty, 100);
+			assertThat(output).containsOnlyOnce("Hello World!");
+
+			List<LogEntry> entries = waitFor(StorageWriter::consumeEntries, list -> !list.isEmpty(), 100);
+			assertThat(entries).extracting(LogEntry::getMessage).containsExactly("Hello World!");
+		}
+
+	}
+
+	/**
+	 * Tests for logging in garbage-free mode without writing thread.
+	 */
+	public static final class GarbageFreeMode extends AbstractTest {
+
+		private static final MessageFormatter FORMATTER = new AdvancedMessageFormatter(Locale.ROOT, false);
+
+		/**
+		 * Activates garbage-free mode with a console writer and the storage writer, and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("garbagefree", "true");
+			configuration.put("autoshutdown", "false");
+			configuration.put("writer1", "console");
+			configuration.put("writer1.format", "{message}");
+			configuration.put("writer2", StorageWriter.class.getName());
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Clears the storage writer.
+		 */
+		@After
+		public void clearEntries() {
+			StorageWriter.consumeEntries();
+		}
+
+		/**
+		 * Verifies that the same reusable log entry is passed to the writers for all log statements of a thread.
+		 */
+		@Test
+		public void reuseLogEntry() {
+			provider.log(1, null, Level.INFO, null, FORMATTER, "Hello {}!", "World");
+			provider.log(1, null, Level.INFO, null, FORMATTER, "Hello {}!", "Universe");
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("Hello World!" + NEW_LINE + "Hello Universe!" + NEW_LINE);
+
+			List<LogEntry> entries = StorageWriter.consumeEntries();
+			assertThat(entries).hasSize(2);
+			assertThat(entries.get(0)).isSameAs(entries.get(1));
+			assertThat(entries.get(0).isReusable()).isTrue();
+			assertThat(entries.get(0).getMessage()).isEqualTo("Hello Universe!");
+		}
+
+		/**
+		 * Verifies that a log statement, which is issued while formatting the message of another log statement, gets a
+		 * new log entry instead of overwriting the reusable log entry in use.
+		 */
+		@Test
+		public void nestedLogging() {
+			Supplier<String> supplier = () -> {
+				provider.log(1, null, Level.INFO, null, null, "Inner");
+				return "Outer";
+			};
+
+			provider.log(1, null, Level.INFO, null, FORMATTER, "Hello {}!", supplier);
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo("Inner" + NEW_LINE + "Hello Outer!" + NEW_LINE);
+
+			List<LogEntry> entries = StorageWriter.consumeEntries();
+			assertThat(entries).hasSize(2);
+			assertThat(entries.get(0).isReusable()).isFalse();
+			assertThat(entries.get(1).isReusable()).isTrue();
+		}
+
+	}
+
+	/**
+	 * Tests for logging in garbage-free mode with enabled writing thread.
+	 */
+	public static final class GarbageFreeModeWithWritingThread extends AbstractTest {
+
+		/**
+		 * Activates garbage-free mode and writing thread with a console writer, and disables auto shutdown.
+		 */
+		@BeforeClass
+		public static void configure() {
+			Map<String, String> configuration = new HashMap<>();
+			configuration.put("garbagefree", "true");
+			configuration.put("writingthread", "true");
+			configuration.put("autoshutdown", "false");
+			configuration.put("writer", "console");
+			configuration.put("writer.format", "{message}");
+
+			Whitebox.setInternalState(Configuration.class, "frozen", false);
+			Configuration.replace(configuration);
+		}
+
+		/**
+		 * Verifies that all log entries are output correctly, even though the issuing thread reuses its log entry
+		 * immediately.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void logging() throws InterruptedException {
+			StringBuilder expected = new StringBuilder();
+			for (int i = 0; i < 100; ++i) {
+				provider.log(1, null, Level.INFO, null, null, "Message " + i);
+				expected.append("Message ").append(i).append(NEW_LINE);
+			}
+
+			provider.shutdown();
+
+			assertThat(systemStream.consumeStandardOutput()).isEqualTo(expected.toString());
+		}
+
+	}
+
 	/**
 	 * Tests for writer operations that throw an exception.
 	 */
@@ -882,6 +1230,57 @@ public final class TinylogLoggingProviderTest {
 			});
 		}
 
+		/**
+		 * Verifies that the date of issue is taken from the configured clock.
+		 *
+		 * @throws InterruptedException
+		 *             Interrupted while waiting for complete shutdown
+		 */
+		@Test
+		public void dateFromConfiguredClock() throws InterruptedException {
+			Configuration.set("writer.values", "date");
+
+			for (String mode : new String[] { "cached", "nanotime-anchored" }) {
+				Whitebox.setInternalState(Configuration.class, "frozen", false);
+				Configuration.set("clock", mode);
+				TinylogLoggingProvider clockedProvider = new TinylogLoggingProvider();
+
+				Instant before = Instant.now().minusMillis(100);
+				clockedProvider.log(1, null, Level.INFO, null, null, null);
+				Instant after = Instant.now().plusMillis(100);
+				clockedProvider.shutdown();
+
+				assertThat(StorageWriter.consumeEntries()).hasSize(1).extracting(LogEntry::getTimestamp).allSatisfy(timestamp -> {
+					assertThat(timestamp).isInstanceOf(MutableTimestamp.class);
+					assertThat(timestamp.toInstant()).isBetween(before, after);
+				});
+			}
+		}
+
+		/**
+		 * Verifies that the clock is shut down not before all writers have been closed, as log entries can be still
+		 * issued during shutdown.
+		 *
+		 * @throws Exception
+		 *             Failed to shut down logging provider
+		 */
+		@Test
+		public void shutdownClockAfterClosingWriters() throws Exception {
+			TinylogLoggingProvider clockedProvider = new TinylogLoggingProvider();
+			clockedProvider.shutdown();
+
+			Clock clock = mock(Clock.class);
+			Writer writer = mock(Writer.class);
+			Whitebox.setInternalState(clockedProvider, "clock", clock);
+			Whitebox.setInternalState(clockedProvider, "writers", new Collection<?>[][] { { singletonList(writer) } });
+
+			clockedProvider.shutdown();
+
+			InOrder order = inOrder(writer, clock);
+			order.verify(writer).close();
+			order.verify(clock).shutdown();
+		}
+
 		/**
 		 * Verifies that the current thread is present in received log entry.
 		 */
@@ -977,6 +1376,24 @@ public final class TinylogLoggingProviderTest {
 			assertThat(StorageWriter.consumeEntries()).extracting(LogEntry::getLineNumber).containsOnly(line);
 		}
 
+		/**
+		 * Verifies that a precomputed location is used as it is for class name, method name, source file name, and line
+		 * number in received log entry.
+		 */
+		@Test
+		public void precomputedLocation() {
+			Configuration.set("writer.values", "class, method, file, line");
+			StackTraceElement location = new StackTraceElement("example.MyClass", "foo", "MyClass.java", 42);
+
+			new TinylogLoggingProvider().log(location, null, Level.INFO, null, null, null);
+			assertThat(StorageWriter.consumeEntries()).hasSize(1).allSatisfy(entry -> {
+				assertThat(entry.getClassName()).isEqualTo("example.MyClass");
+				assertThat(entry.getMethodName()).isEqualTo("foo");
+				assertThat(entry.getFileName()).isEqualTo("MyClass.java");
+				assertThat(entry.getLineNumber()).isEqualTo(42);
+			});
+		}
+
 		/**
 		 * Verifies that a tag is present in received log entry.
 		 */
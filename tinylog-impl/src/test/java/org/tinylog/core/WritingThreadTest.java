@@ -17,12 +17,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.tinylog.Level;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.util.FileSystem;
 import org.tinylog.util.LogEntryBuilder;
@@ -32,8 +34,12 @@ import org.tinylog.writers.Writer;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -72,6 +78,70 @@ public final class WritingThreadTest {
 		verify(writer).close();
 	}
 
+	/**
+	 * Verifies that a log entry for multiple writers occupies only one slot in the queue and will be written by all of
+	 * them.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void multipleWriters() throws Exception {
+		Writer first = mock(Writer.class);
+		Writer second = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = new WritingThread(
+			Arrays.asList(first, second),
+			1,
+			OverflowPolicy.DROP_NEWEST,
+			Level.OFF,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.add(Arrays.asList(first, second), entry);
+
+		assertThat(thread.getDiscardedLogEntries()).isZero();
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(first).write(entry);
+		verify(second).write(entry);
+		verify(first).close();
+		verify(second).close();
+	}
+
+	/**
+	 * Verifies that reusable log entries are copied into the queue, so that the issuing thread can reuse its log entry
+	 * immediately.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void reusableLogEntries() throws Exception {
+		List<String> messages = new ArrayList<>();
+		Writer writer = mock(Writer.class);
+		doAnswer(invocation -> messages.add(invocation.<LogEntry>getArgument(0).getMessage())).when(writer).write(any());
+
+		WritingThread thread = new WritingThread(singletonList(writer));
+
+		LogEntry entry = new LogEntry();
+		for (int i = 0; i < 3; ++i) {
+			fill(entry, "Message " + i);
+			thread.add(writer, entry);
+		}
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		assertThat(messages).containsExactly("Message 0", "Message 1", "Message 2");
+		verify(writer, never()).write(entry);
+	}
+
 	/**
 	 * Verifies that multiple threads can serve log entries simultaneously.
 	 *
@@ -116,6 +186,306 @@ public final class WritingThreadTest {
 		assertThat(Files.readAllLines(Paths.get(file))).hasSize(10 * 1000).containsOnly("Hello World!");
 	}
 
+	/**
+	 * Verifies that producers wait for free slots if more log entries are added than the queue can hold.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void fullQueue() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = new WritingThread(
+			singletonList(writer),
+			2,
+			OverflowPolicy.BLOCK,
+			Level.OFF,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.start();
+
+		for (int i = 0; i < 100; ++i) {
+			thread.add(writer, entry);
+		}
+
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, times(100)).write(entry);
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that log entries, which are added after shutting down the writing thread, will be discarded without
+	 * blocking the producer.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void addingAfterShutdown() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = new WritingThread(
+			singletonList(writer),
+			2,
+			OverflowPolicy.BLOCK,
+			Level.OFF,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		for (int i = 0; i < 10; ++i) {
+			thread.add(writer, entry);
+		}
+
+		verify(writer, never()).write(entry);
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that new log entries will be discarded and counted for {@link OverflowPolicy#DROP_NEWEST}, if the queue
+	 * is full.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropNewest() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().message("first").create();
+		LogEntry second = LogEntryBuilder.empty().message("second").create();
+		LogEntry third = LogEntryBuilder.empty().message("third").create();
+
+		WritingThread thread = new WritingThread(
+			singletonList(writer),
+			2,
+			OverflowPolicy.DROP_NEWEST,
+			Level.OFF,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.add(writer, first);
+		thread.add(writer, second);
+		thread.add(writer, third);
+
+		assertThat(thread.getDiscardedLogEntries()).isEqualTo(1);
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(writer).write(first);
+		verify(writer).write(second);
+		verify(writer, never()).write(third);
+		verify(writer).close();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("1 log entries");
+	}
+
+	/**
+	 * Verifies that the oldest queued log entries will be discarded and counted for {@link OverflowPolicy#DROP_OLDEST},
+	 * if the queue is full.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropOldest() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry first = LogEntryBuilder.empty().message("first").create();
+		LogEntry second = LogEntryBuilder.empty().message("second").create();
+		LogEntry third = LogEntryBuilder.empty().message("third").create();
+
+		WritingThread thread = new WritingThread(
+			singletonList(writer),
+			2,
+			OverflowPolicy.DROP_OLDEST,
+			Level.OFF,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.add(writer, first);
+		thread.add(writer, second);
+		thread.add(writer, third);
+
+		assertThat(thread.getDiscardedLogEntries()).isEqualTo(1);
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, never()).write(first);
+		verify(writer).write(second);
+		verify(writer).write(third);
+		verify(writer).close();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("1 log entries");
+	}
+
+	/**
+	 * Verifies that only log entries with a severity level below the configured severity level will be discarded for
+	 * {@link OverflowPolicy#DROP_BELOW_LEVEL}, if the queue is full.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void dropBelowLevel() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry info = LogEntryBuilder.empty().level(Level.INFO).create();
+		LogEntry debug = LogEntryBuilder.empty().level(Level.DEBUG).create();
+		LogEntry error = LogEntryBuilder.empty().level(Level.ERROR).create();
+
+		WritingThread thread = new WritingThread(
+			singletonList(writer),
+			2,
+			OverflowPolicy.DROP_BELOW_LEVEL,
+			Level.WARN,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.add(writer, info);
+		thread.add(writer, info);
+		thread.add(writer, debug);
+
+		assertThat(thread.getDiscardedLogEntries()).isEqualTo(1);
+
+		thread.start();
+		thread.add(writer, error);
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, times(2)).write(info);
+		verify(writer, never()).write(debug);
+		verify(writer).write(error);
+		verify(writer).close();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").containsOnlyOnce("1 log entries");
+	}
+
+	/**
+	 * Verifies that new log entries will be written in the issuing thread for {@link OverflowPolicy#SYNC}, if the queue
+	 * is full.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void writeSynchronously() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry queued = LogEntryBuilder.empty().message("queued").create();
+		LogEntry direct = LogEntryBuilder.empty().message("direct").create();
+
+		WritingThread thread = new WritingThread(
+			singletonList(writer),
+			2,
+			OverflowPolicy.SYNC,
+			Level.OFF,
+			WaitStrategy.SLEEP,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+		thread.add(writer, queued);
+		thread.add(writer, queued);
+		thread.add(writer, direct);
+
+		verify(writer).write(direct);
+		verify(writer, never()).write(queued);
+		assertThat(thread.getDiscardedLogEntries()).isZero();
+
+		thread.start();
+		thread.shutdown();
+		thread.join();
+
+		verify(writer, times(2)).write(queued);
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that the writing thread parks without timeout for {@link WaitStrategy#PARK} and will be woken up by a
+	 * new log entry.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void parkUntilSignaled() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = createWritingThread(writer, WaitStrategy.PARK);
+		thread.start();
+		awaitState(thread, Thread.State.WAITING);
+
+		thread.add(writer, entry);
+		verify(writer, timeout(1000)).write(entry);
+		awaitState(thread, Thread.State.WAITING);
+
+		thread.shutdown();
+		thread.join();
+
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that the writing thread finally parks without timeout for {@link WaitStrategy#SPIN} and will be woken
+	 * up by a new log entry.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void spinUntilSignaled() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = createWritingThread(writer, WaitStrategy.SPIN);
+		thread.start();
+		awaitState(thread, Thread.State.WAITING);
+
+		for (int i = 0; i < 100; ++i) {
+			thread.add(writer, entry);
+		}
+		verify(writer, timeout(1000).times(100)).write(entry);
+
+		thread.shutdown();
+		thread.join();
+
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that log entries will be written after being signaled for {@link WaitStrategy#BATCH}.
+	 *
+	 * @throws Exception
+	 *             Illegal thread or mock invocation
+	 */
+	@Test
+	public void batchAfterSignal() throws Exception {
+		Writer writer = mock(Writer.class);
+		LogEntry entry = LogEntryBuilder.empty().create();
+
+		WritingThread thread = createWritingThread(writer, WaitStrategy.BATCH);
+		thread.start();
+		awaitState(thread, Thread.State.WAITING);
+
+		thread.add(writer, entry);
+		thread.add(writer, entry);
+		verify(writer, timeout(1000).times(2)).write(entry);
+
+		thread.shutdown();
+		thread.join();
+
+		verify(writer).close();
+	}
+
 	/**
 	 * Verifies that a thrown exception will be reported while writing.
 	 *
@@ -184,4 +554,57 @@ public final class WritingThreadTest {
 		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").containsOnlyOnce(IOException.class.getName());
 	}
 
+	/**
+	 * Creates a writing thread with a queue of default size that blocks if full.
+	 *
+	 * @param writer
+	 *            Writer to use
+	 * @param waitStrategy
+	 *            Strategy for waiting for new log entries
+	 * @return Created writing thread
+	 */
+	private static WritingThread createWritingThread(final Writer writer, final WaitStrategy waitStrategy) {
+		return new WritingThread(
+			singletonList(writer),
+			WritingThread.DEFAULT_QUEUE_SIZE,
+			OverflowPolicy.BLOCK,
+			Level.OFF,
+			waitStrategy,
+			WritingThread.DEFAULT_BATCH_WINDOW
+		);
+	}
+
+	/**
+	 * Fills a reusable log entry with a new text message.
+	 *
+	 * @param logEntry
+	 *            Reusable log entry
+	 * @param message
+	 *            Text message
+	 */
+	private static void fill(final LogEntry logEntry, final String message) {
+		logEntry.reset(null, null, null, null, null, -1, null, Level.INFO, null);
+		logEntry.getMessageBuilder().append(message);
+		logEntry.commitMessage();
+	}
+
+	/**
+	 * Waits until a thread has reached the expected state.
+	 *
+	 * @param thread
+	 *            Thread to observe
+	 * @param state
+	 *            Expected state
+	 * @throws InterruptedException
+	 *             Interrupted while waiting
+	 */
+	private static void awaitState(final Thread thread, final Thread.State state) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 1000;
+		while (thread.getState() != state && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1);
+		}
+
+		assertThat(thread.getState()).isEqualTo(state);
+	}
+
 }
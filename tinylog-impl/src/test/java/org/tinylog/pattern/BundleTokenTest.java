@@ -17,6 +17,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.Level;
 import org.tinylog.core.LogEntryValue;
 import org.tinylog.util.LogEntryBuilder;
 
@@ -51,6 +53,43 @@ public final class BundleTokenTest {
 		assertThat(builder).hasToString("Abc123");
 	}
 
+	/**
+	 * Verifies that adjacent plain text tokens will be merged into a single literal.
+	 */
+	@Test
+	public void mergePlainTexts() {
+		BundleToken token = new BundleToken(asList(new PlainTextToken("Abc"), new PlainTextToken("123"),
+			new SeverityLevelToken(), new PlainTextToken(":"), new PlainTextToken(" ")));
+
+		assertThat((Token[]) Whitebox.getInternalState(token, "tokens")).hasSize(1);
+		assertThat((String[]) Whitebox.getInternalState(token, "literals")).containsExactly("Abc123", ": ");
+
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().level(Level.INFO).create(), builder);
+		assertThat(builder).hasToString("Abc123INFO: ");
+	}
+
+	/**
+	 * Verifies that nested bundles will be inlined and their literals merged with surrounding plain text tokens.
+	 */
+	@Test
+	public void flattenNestedBundles() {
+		BundleToken inner = new BundleToken(asList(new PlainTextToken("["), new SeverityLevelToken(),
+			new PlainTextToken("]")));
+		BundleToken token = new BundleToken(asList(new PlainTextToken("<"), inner, new PlainTextToken(">"),
+			new PackageNameToken()));
+
+		assertThat((Token[]) Whitebox.getInternalState(token, "tokens"))
+			.hasSize(2)
+			.hasOnlyElementsOfTypes(SeverityLevelToken.class, PackageNameToken.class);
+		assertThat((String[]) Whitebox.getInternalState(token, "literals")).containsExactly("<[", "]>", null);
+		assertThat(token.getRequiredLogEntryValues()).containsOnly(LogEntryValue.LEVEL, LogEntryValue.CLASS);
+
+		StringBuilder builder = new StringBuilder();
+		token.render(LogEntryBuilder.empty().level(Level.WARN).className("org.tinylog.Foo").create(), builder);
+		assertThat(builder).hasToString("<[WARN]>org.tinylog");
+	}
+
 	/**
 	 * Verifies that all child tokens will be rendered for a {@link PreparedStatement} in the given order.
 	 * 
@@ -19,13 +19,17 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
 import org.tinylog.core.LogEntry;
 import org.tinylog.core.LogEntryValue;
+import org.tinylog.runtime.TimestampFormatter;
 import org.tinylog.util.LogEntryBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Tests for {@link DateToken}.
@@ -76,6 +80,20 @@ public final class DateTokenTest {
 		assertThat(render(token, LocalDateTime.of(2016, 6, 30, 12, 15))).containsSubsequence("2016", "06", "30", "12", "15");
 	}
 
+	/**
+	 * Verifies that timestamp formatters, which cannot append to a {@link StringBuilder} directly, are supported.
+	 */
+	@Test
+	public void renderWithPlainTimestampFormatter() {
+		TimestampFormatter formatter = mock(TimestampFormatter.class);
+		when(formatter.format(any(org.tinylog.runtime.Timestamp.class))).thenReturn("2016-01-01");
+
+		DateToken token = new DateToken("yyyy-MM-dd");
+		Whitebox.setInternalState(token, TimestampFormatter.class, formatter);
+
+		assertThat(render(token, LocalDateTime.of(2016, 1, 1, 0, 0))).isEqualTo("2016-01-01");
+	}
+
 	/**
 	 * Verifies that the current date and time will be added as a {@link Timestamp} to a {@link PreparedStatement}, if
 	 * no format pattern has been explicitly defined.
@@ -15,6 +15,7 @@ package org.tinylog.writers;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Rule;
@@ -25,13 +26,20 @@ import org.tinylog.core.LogEntryValue;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.util.FileSystem;
 import org.tinylog.util.LogEntryBuilder;
+import org.tinylog.writers.raw.AutoFlushWriterDecorator;
 import org.tinylog.writers.raw.ByteArrayWriter;
+import org.tinylog.writers.raw.DoubleBufferedWriterDecorator;
+import org.tinylog.writers.raw.GatheringFileChannelWriter;
+import org.tinylog.writers.raw.MemoryMappedFileWriter;
+import org.tinylog.writers.raw.StripedWriterDecorator;
 import org.tinylog.writers.raw.SynchronizedWriterDecorator;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 import static org.tinylog.util.Maps.doubletonMap;
 import static org.tinylog.util.Maps.tripletonMap;
 
@@ -87,6 +95,311 @@ public final class FileWriterTest {
 		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
 	}
 
+	/**
+	 * Verifies that log entries will be written through a memory mapped file, if memory mapping is enabled, and that
+	 * the file will be truncated to its real length on closing.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void memoryMappedWriting() throws IOException {
+		assumeFalse(System.getProperty("os.name").startsWith("Windows"));
+
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("writingthread", "true");
+		properties.put("mmap", "true");
+		properties.put("mmap.chunk", "8 bytes");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class)).isInstanceOf(MemoryMappedFileWriter.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a memory mapped file can be continued after reopening, if append mode is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void memoryMappedAppending() throws IOException {
+		assumeFalse(System.getProperty("os.name").startsWith("Windows"));
+
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("append", "true");
+		properties.put("mmap", "true");
+		properties.put("mmap.chunk", "64 bytes");
+
+		FileWriter writer = new FileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+
+		writer = new FileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that memory mapping is rejected with a warning on Windows, as mapped files cannot be truncated there.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void memoryMappingOnWindows() throws IOException {
+		assumeTrue(System.getProperty("os.name").startsWith("Windows"));
+
+		String file = FileSystem.createTemporaryFile();
+
+		FileWriter writer = new FileWriter(tripletonMap("file", file, "format", "{message}", "mmap", "true"));
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isNotInstanceOf(MemoryMappedFileWriter.class);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("WARN").contains("Windows");
+	}
+
+	/**
+	 * Verifies that an error will be output, if the chunk size for memory mapping is invalid, and the default chunk
+	 * size will be used instead.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void invalidMemoryMappingChunkSize() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("mmap", "true");
+		properties.put("mmap.chunk", "-1 KB");
+
+		FileWriter writer = new FileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("mmap.chunk", "-1 KB");
+	}
+
+	/**
+	 * Verifies that log entries will be collected in direct byte buffers and output after flushing, if NIO and
+	 * buffering are enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void gatheringWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("writingthread", "true");
+		properties.put("buffered", "true");
+		properties.put("nio", "true");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isInstanceOf(GatheringFileChannelWriter.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEmpty();
+
+		writer.flush();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that log entries will be output immediately, if NIO is enabled without buffering.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void unbufferedGatheringWriting() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("writingthread", "true");
+		properties.put("nio", "true");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isInstanceOf(GatheringFileChannelWriter.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that a configured buffer size will be used for buffered output.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void definedBufferSize() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("buffer.size", "16 bytes");
+
+		FileWriter writer = new FileWriter(properties);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		assertThat(FileSystem.readFile(file)).isEmpty();
+
+		writer.write(LogEntryBuilder.empty().message("Goodbye!").create());
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that multiple buffers will be used for synchronous buffered output, if a buffer count is configured.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void multipleBuffers() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("buffer.count", "2");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isInstanceOf(DoubleBufferedWriterDecorator.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.flush();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that separate buffers per thread will be used for synchronous buffered output, if striped buffers are
+	 * enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void stripedBuffers() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("buffer.striped", "true");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isInstanceOf(StripedWriterDecorator.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.flush();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+
+		writer.close();
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+	}
+
+	/**
+	 * Verifies that buffered output will be flushed automatically, if a flush interval is configured.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the automatic flush
+	 */
+	@Test
+	public void definedFlushInterval() throws IOException, InterruptedException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("flush.interval", "10");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isInstanceOf(AutoFlushWriterDecorator.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		for (int i = 0; i < 100 && FileSystem.readFile(file).isEmpty(); ++i) {
+			Thread.sleep(10);
+		}
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+		writer.close();
+	}
+
+	/**
+	 * Verifies that an error will be output, if the flush interval is invalid.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void invalidFlushInterval() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("buffered", "true");
+		properties.put("flush.interval", "soon");
+
+		FileWriter writer = new FileWriter(properties);
+		assertThat(Whitebox.getInternalState(writer, ByteArrayWriter.class))
+			.isInstanceOf(SynchronizedWriterDecorator.class);
+		writer.close();
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("flush.interval", "soon");
+	}
+
 	/**
 	 * Verifies that an already existing file will be overridden, if append mode is disabled.
 	 *
@@ -176,6 +489,30 @@ public final class FileWriterTest {
 			.isEqualTo("Hello World!" + NEW_LINE + "Goodbye!" + NEW_LINE);
 	}
 
+	/**
+	 * Verifies that a configured charset will be used for encoding text, if writing thread is enabled.
+	 *
+	 * @throws IOException
+	 *             Failed writing to file
+	 */
+	@Test
+	public void definedCharsetWithWritingThread() throws IOException {
+		String file = FileSystem.createTemporaryFile();
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("charset", "UTF-16");
+		properties.put("writingthread", "true");
+
+		FileWriter writer = new FileWriter(properties);
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		writer.write(LogEntryBuilder.empty().message("Grüße 😀").create());
+		writer.close();
+
+		assertThat(FileSystem.readFile(file, StandardCharsets.UTF_16))
+			.isEqualTo("Hello World!" + NEW_LINE + "Grüße 😀" + NEW_LINE);
+	}
+
 	/**
 	 * Verifies that the default pattern contains a minimum set of information.
 	 *
@@ -185,7 +185,7 @@ public final class JdbcWriterTest {
 		}
 
 		/**
-		 * Verifies that there is only a mutex object, if writhing thread is disabled.
+		 * Verifies that there is only a lock, if writhing thread is disabled.
 		 *
 		 * @throws NamingException
 		 *             Failed to find data source
@@ -193,15 +193,15 @@ public final class JdbcWriterTest {
 		 *             Failed to access database
 		 */
 		@Test
-		public void mutex() throws NamingException, SQLException {
+		public void lock() throws NamingException, SQLException {
 			createTable();
 
 			JdbcWriter writer = new JdbcWriter(createProperties(emptyMap()));
-			Object mutex = Whitebox.getInternalState(writer, "mutex");
+			Object lock = Whitebox.getInternalState(writer, "lock");
 			if (writingThread) {
-				assertThat(mutex).isNull();
+				assertThat(lock).isNull();
 			} else {
-				assertThat(mutex).isNotNull();
+				assertThat(lock).isNotNull();
 			}
 			writer.close();
 		}
@@ -29,6 +29,7 @@ import org.tinylog.core.LogEntryValue;
 import org.tinylog.rules.SystemStreamCollector;
 import org.tinylog.util.FileSystem;
 import org.tinylog.util.LogEntryBuilder;
+import org.tinylog.writers.raw.AutoFlushWriterDecorator;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
@@ -103,6 +104,37 @@ public final class RollingFileWriterTest {
 		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
 	}
 
+	/**
+	 * Verifies that buffered output will be flushed automatically, if a flush interval is configured and writing
+	 * thread is disabled.
+	 *
+	 * @throws IOException
+	 *             Failed access to temporary file
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the automatic flush or the converter
+	 */
+	@Test
+	public void definedFlushInterval() throws IOException, InterruptedException {
+		String file = FileSystem.createTemporaryFile();
+
+		Map<String, String> properties = new HashMap<>();
+		properties.put("file", file);
+		properties.put("format", "{message}");
+		properties.put("buffered", "true");
+		properties.put("flush.interval", "10");
+
+		RollingFileWriter writer = new RollingFileWriter(properties);
+		assertThat(Whitebox.<Object>getInternalState(writer, "synchronizedWriter")).isInstanceOf(AutoFlushWriterDecorator.class);
+
+		writer.write(LogEntryBuilder.empty().message("Hello World!").create());
+		for (int i = 0; i < 100 && FileSystem.readFile(file).isEmpty(); ++i) {
+			Thread.sleep(10);
+		}
+
+		assertThat(FileSystem.readFile(file)).isEqualTo("Hello World!" + NEW_LINE);
+		writer.close();
+	}
+
 	/**
 	 * Verifies that writing works and the underlying byte array writer is thread-safe, if writing thread is disable.
 	 *
@@ -122,6 +154,7 @@ public final class RollingFileWriterTest {
 		writer.close();
 
 		assertThat(Whitebox.<Boolean>getInternalState(writer, "writingThread")).isFalse();
+		assertThat(Whitebox.<Object>getInternalState(writer, "lock")).isNotNull();
 	}
 
 	/**
@@ -143,6 +176,7 @@ public final class RollingFileWriterTest {
 		writer.close();
 
 		assertThat(Whitebox.<Boolean>getInternalState(writer, "writingThread")).isTrue();
+		assertThat(Whitebox.<Object>getInternalState(writer, "lock")).isNull();
 	}
 
 	/**
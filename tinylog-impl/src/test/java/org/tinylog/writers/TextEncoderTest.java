@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TextEncoder}.
+ */
+@RunWith(Parameterized.class)
+public final class TextEncoderTest {
+
+	private static final char HIGH_SURROGATE = 0xD83D;
+	private static final char LOW_SURROGATE = 0xDE00;
+
+	private final Charset charset;
+
+	/**
+	 * @param charset
+	 *            Charset for encoding
+	 */
+	public TextEncoderTest(final String charset) {
+		this.charset = Charset.forName(charset);
+	}
+
+	/**
+	 * Returns all charsets that should be tested. US-ASCII, ISO-8859-1 and UTF-8 are encoded directly, the others via
+	 * a charset encoder.
+	 *
+	 * @return Each object array contains the name of a charset
+	 */
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> getParameters() {
+		return Arrays.asList(
+			new Object[] { "US-ASCII" },
+			new Object[] { "ISO-8859-1" },
+			new Object[] { "UTF-8" },
+			new Object[] { "UTF-16" },
+			new Object[] { "windows-1252" }
+		);
+	}
+
+	/**
+	 * Verifies that plain ASCII text is encoded like {@link String#getBytes(Charset)} does.
+	 */
+	@Test
+	public void asciiText() {
+		verify("Hello World!\r\n");
+	}
+
+	/**
+	 * Verifies that text with umlauts, symbols and characters from other scripts is encoded like
+	 * {@link String#getBytes(Charset)} does.
+	 */
+	@Test
+	public void internationalText() {
+		verify("Grüße € © 日本 Ж");
+	}
+
+	/**
+	 * Verifies that surrogate pairs and malformed surrogates are encoded like {@link String#getBytes(Charset)} does.
+	 */
+	@Test
+	public void surrogates() {
+		verify("Smile 😀!");
+		verify("High " + HIGH_SURROGATE + " only");
+		verify("Low " + LOW_SURROGATE + " only");
+		verify("Trailing " + HIGH_SURROGATE);
+	}
+
+	/**
+	 * Verifies that texts larger than the initial buffer can be encoded and that the encoder can be reused.
+	 */
+	@Test
+	public void reuse() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 1000; ++i) {
+			builder.append("Line ").append(i).append(" ä€😀\n");
+		}
+
+		TextEncoder encoder = new TextEncoder(charset);
+		for (String text : Arrays.asList("first", builder.toString(), "last")) {
+			int length = encoder.encode(text);
+			assertThat(Arrays.copyOf(encoder.getBytes(), length)).isEqualTo(text.getBytes(charset));
+		}
+	}
+
+	/**
+	 * Verifies that a text is encoded identically to {@link String#getBytes(Charset)}.
+	 *
+	 * @param text
+	 *            Text to encode
+	 */
+	private void verify(final String text) {
+		TextEncoder encoder = new TextEncoder(charset);
+		int length = encoder.encode(new StringBuilder(text));
+		assertThat(Arrays.copyOf(encoder.getBytes(), length)).isEqualTo(text.getBytes(charset));
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.rules.SystemStreamCollector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link AutoFlushWriterDecorator}.
+ */
+public final class AutoFlushWriterDecoratorTest {
+
+	/**
+	 * Redirects and collects system output streams.
+	 */
+	@Rule
+	public final SystemStreamCollector systemStream = new SystemStreamCollector(true);
+
+	/**
+	 * Verifies that all calls are passed to the underlying writer.
+	 *
+	 * @throws IOException
+	 *             Failed to access writer
+	 */
+	@Test
+	public void delegation() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		when(writer.readTail(any(), anyInt(), anyInt())).thenReturn(42);
+
+		AutoFlushWriterDecorator decorator = new AutoFlushWriterDecorator(writer, 60_000);
+		byte[] data = new byte[] { 1, 2, 3 };
+
+		assertThat(decorator.readTail(data, 1, 2)).isEqualTo(42);
+		verify(writer).readTail(data, 1, 2);
+
+		decorator.write(data, 3);
+		verify(writer).write(data, 0, 3);
+
+		decorator.truncate(2);
+		verify(writer).truncate(2);
+
+		decorator.flush();
+		verify(writer).flush();
+
+		decorator.close();
+		verify(writer).close();
+	}
+
+	/**
+	 * Verifies that the underlying writer is flushed automatically after writing data.
+	 *
+	 * @throws IOException
+	 *             Failed to access writer
+	 */
+	@Test
+	public void flushWrittenData() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		AutoFlushWriterDecorator decorator = new AutoFlushWriterDecorator(writer, 10);
+
+		try {
+			decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+			verify(writer, timeout(1000)).flush();
+		} finally {
+			decorator.close();
+		}
+	}
+
+	/**
+	 * Verifies that an idle writer is not flushed.
+	 *
+	 * @throws IOException
+	 *             Failed to access writer
+	 */
+	@Test
+	public void skipIdleWriter() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		AutoFlushWriterDecorator decorator = new AutoFlushWriterDecorator(writer, 10);
+
+		try {
+			verify(writer, after(100).never()).flush();
+		} finally {
+			decorator.close();
+		}
+	}
+
+	/**
+	 * Verifies that a closed writer is not flushed anymore.
+	 *
+	 * @throws IOException
+	 *             Failed to access writer
+	 */
+	@Test
+	public void stopFlushingAfterClosing() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		AutoFlushWriterDecorator decorator = new AutoFlushWriterDecorator(writer, 10);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+		decorator.close();
+
+		verify(writer, after(100).never()).flush();
+	}
+
+	/**
+	 * Verifies that a failed automatic flush will be logged.
+	 *
+	 * @throws IOException
+	 *             Failed to access writer
+	 */
+	@Test
+	public void failedFlushing() throws IOException {
+		ByteArrayWriter writer = mock(ByteArrayWriter.class);
+		doThrow(new IOException("Disk full")).when(writer).flush();
+		AutoFlushWriterDecorator decorator = new AutoFlushWriterDecorator(writer, 10);
+
+		try {
+			decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+			verify(writer, timeout(1000)).flush();
+		} finally {
+			decorator.close();
+		}
+
+		assertThat(systemStream.consumeErrorOutput()).containsOnlyOnce("ERROR").contains("flush", "Disk full");
+	}
+
+	/**
+	 * Verifies that the background thread for flushing is shared by all decorators and shut down after closing the last
+	 * decorator.
+	 *
+	 * @throws IOException
+	 *             Failed to access writer
+	 */
+	@Test
+	public void shutdownSchedulerAfterClosingLastDecorator() throws IOException {
+		AutoFlushWriterDecorator first = new AutoFlushWriterDecorator(mock(ByteArrayWriter.class), 10);
+		ScheduledExecutorService scheduler = Whitebox.getInternalState(AutoFlushWriterDecorator.class, "scheduler");
+		assertThat(scheduler).isNotNull();
+
+		AutoFlushWriterDecorator second = new AutoFlushWriterDecorator(mock(ByteArrayWriter.class), 10);
+		assertThat(Whitebox.<Object>getInternalState(AutoFlushWriterDecorator.class, "scheduler")).isSameAs(scheduler);
+
+		first.close();
+		first.close();
+		assertThat(scheduler.isShutdown()).isFalse();
+
+		second.close();
+		assertThat(scheduler.isShutdown()).isTrue();
+		assertThat(Whitebox.<Object>getInternalState(AutoFlushWriterDecorator.class, "scheduler")).isNull();
+
+		AutoFlushWriterDecorator third = new AutoFlushWriterDecorator(mock(ByteArrayWriter.class), 10);
+		assertThat(Whitebox.<Object>getInternalState(AutoFlushWriterDecorator.class, "scheduler")).isNotSameAs(scheduler);
+		third.close();
+	}
+
+}
@@ -114,6 +114,53 @@ public final class BufferedWriterDecoratorTest {
 			.hasSize(BUFFER_CAPACITY + 1);
 	}
 
+	/**
+	 * Verifies that a custom buffer capacity will be used.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void customCapacity() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		BufferedWriterDecorator decorator = new BufferedWriterDecorator(writer, 4);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEmpty();
+
+		decorator.write(new byte[] { 4, 5 }, 0, 2);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3);
+
+		decorator.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5);
+	}
+
+	/**
+	 * Verifies that buffered data will be written as soon as it reaches the flush threshold.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void flushThreshold() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		BufferedWriterDecorator decorator = new BufferedWriterDecorator(writer, 16, 4);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEmpty();
+
+		decorator.write(new byte[] { 4 }, 0, 1);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4);
+
+		decorator.write(new byte[] { 5 }, 0, 1);
+		decorator.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5);
+	}
+
 	/**
 	 * Verifies that byte arrays bigger than the internal buffer capacity can be output completely.
 	 *
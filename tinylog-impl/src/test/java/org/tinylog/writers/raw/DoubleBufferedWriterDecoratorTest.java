@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.atIndex;
+
+/**
+ * Tests for {@link DoubleBufferedWriterDecorator}.
+ */
+public final class DoubleBufferedWriterDecoratorTest {
+
+	/**
+	 * Verifies that stored data can be read from tail, including still buffered data.
+	 *
+	 * @throws IOException Reading failed
+	 */
+	@Test
+	public void reading() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, 64, 64, 2);
+
+		decorator.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, 0, 10);
+
+		byte[] data = new byte[8];
+
+		assertThat(decorator.readTail(data, 2, 4)).isEqualTo(4);
+		assertThat(data)
+			.contains(6, atIndex(2))
+			.contains(7, atIndex(3))
+			.contains(8, atIndex(4))
+			.contains(9, atIndex(5));
+
+		assertThat(decorator.readTail(data, 0, 8)).isEqualTo(8);
+		assertThat(data).startsWith(2, 3, 4, 5, 6, 7, 8, 9);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that a full buffer will be written by the flusher thread without flushing explicitly, while data in the
+	 * active buffer will be written not before flushing.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for the flusher thread
+	 */
+	@Test
+	public void handOverFullBuffer() throws IOException, InterruptedException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, 4, 4, 2);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+		decorator.write(new byte[] { 4, 5 }, 0, 2);
+
+		for (int i = 0; i < 100 && Files.size(Paths.get(path)) == 0; ++i) {
+			Thread.sleep(10);
+		}
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3);
+
+		decorator.flush();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that byte arrays bigger than the buffer capacity will be output completely and in the correct order.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void dataBiggerThanBuffer() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, 4, 4, 2);
+
+		decorator.write(new byte[] { 1, 2 }, 0, 2);
+		decorator.write(new byte[] { 3, 4, 5, 6, 7 }, 0, 5);
+		decorator.write(new byte[] { 8 }, 0, 1);
+		decorator.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+	}
+
+	/**
+	 * Verifies that data from multiple threads will be neither lost nor reordered within a thread.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a producer thread
+	 */
+	@Test
+	public void multipleProducers() throws IOException, InterruptedException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, 64, 64, 3);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; ++i) {
+			byte producer = (byte) i;
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 1000; ++j) {
+					try {
+						decorator.write(new byte[] { producer, (byte) (j % 100) }, 0, 2);
+					} catch (IOException ex) {
+						throw new IllegalStateException(ex);
+					}
+				}
+			}));
+		}
+
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		decorator.close();
+
+		byte[] data = Files.readAllBytes(Paths.get(path));
+		assertThat(data).hasSize(4 * 1000 * 2);
+
+		int[] counters = new int[4];
+		for (int i = 0; i < data.length; i += 2) {
+			int producer = data[i];
+			assertThat(data[i + 1]).isEqualTo((byte) (counters[producer]++ % 100));
+		}
+		assertThat(counters).containsOnly(1000);
+	}
+
+	/**
+	 * Verifies that stored data can be shrunk.
+	 *
+	 * @throws IOException Resizing failed
+	 */
+	@Test
+	public void truncating() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, 64, 64, 2);
+
+		decorator.write(new byte[] { 0, 1, 2, 3, 4 }, 0, 5);
+		decorator.flush();
+		decorator.write(new byte[] { 5, 6, 7, 8, 9 }, 0, 5);
+
+		byte[] data = new byte[16];
+
+		decorator.truncate(4);
+		assertThat(decorator.readTail(data, 0, 16)).isEqualTo(6);
+		assertThat(data).startsWith(0, 1, 2, 3, 4, 5);
+
+		decorator.truncate(4);
+		assertThat(decorator.readTail(data, 0, 16)).isEqualTo(2);
+		assertThat(data).startsWith(0, 1);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that writing, flushing, and truncating fail with an exception instead of blocking after closing.
+	 *
+	 * @throws IOException Closing failed
+	 */
+	@Test(timeout = 10000)
+	public void usingClosedWriter() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(new RandomAccessFile(path, "rw"));
+		DoubleBufferedWriterDecorator decorator = new DoubleBufferedWriterDecorator(writer, 4, 4, 2);
+
+		decorator.write(new byte[] { 0, 1 }, 0, 2);
+		decorator.close();
+
+		assertThatThrownBy(() -> decorator.write(new byte[] { 2, 3, 4, 5 }, 0, 4)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> decorator.write(new byte[] { 2, 3, 4, 5 }, 0, 4)).isInstanceOf(IOException.class);
+		assertThatThrownBy(decorator::flush).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> decorator.truncate(1)).isInstanceOf(IOException.class);
+
+		decorator.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1);
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.atIndex;
+
+/**
+ * Tests for {@link GatheringFileChannelWriter}.
+ */
+public final class GatheringFileChannelWriterTest {
+
+	/**
+	 * Verifies that stored data can be read from tail, including data that has not been written yet.
+	 *
+	 * @throws IOException Reading failed
+	 */
+	@Test
+	public void reading() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+
+		GatheringFileChannelWriter writer = new GatheringFileChannelWriter(file, true);
+		writer.write(new byte[] { 8, 9 }, 0, 2);
+		byte[] data = new byte[16];
+
+		assertThat(writer.readTail(data, 2, 4)).isEqualTo(4);
+		assertThat(data)
+			.contains(6, atIndex(2))
+			.contains(7, atIndex(3))
+			.contains(8, atIndex(4))
+			.contains(9, atIndex(5));
+
+		assertThat(writer.readTail(data, 0, 16)).isEqualTo(10);
+		assertThat(data).startsWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		writer.close();
+	}
+
+	/**
+	 * Verifies that written data will be output not before flushing.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void writing() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		GatheringFileChannelWriter writer = new GatheringFileChannelWriter(file, true);
+
+		writer.write(new byte[] { 1, 2, 3 }, 2);
+		writer.write(new byte[] { 4, 5, 6, 7 }, 1, 2);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEmpty();
+
+		writer.flush();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 5, 6);
+
+		writer.write(new byte[] { 7 }, 1);
+		writer.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 5, 6, 7);
+	}
+
+	/**
+	 * Verifies that written data will be output immediately, if buffering is disabled.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void writingThrough() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		GatheringFileChannelWriter writer = new GatheringFileChannelWriter(file, false);
+
+		writer.write(new byte[] { 1, 2, 3 }, 2);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2);
+
+		writer.write(new byte[] { 4, 5, 6, 7 }, 1, 2);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 5, 6);
+
+		writer.close();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 5, 6);
+	}
+
+	/**
+	 * Verifies that data exceeding the capacity of all buffers will be written completely and in the correct order.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void writingLargeData() throws IOException {
+		byte[] data = new byte[1024 * 1024];
+		new Random().nextBytes(data);
+
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		GatheringFileChannelWriter writer = new GatheringFileChannelWriter(file, true);
+
+		writer.write(data, 0, 1000);
+		writer.write(data, 1000, data.length - 1000);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).isEqualTo(data);
+	}
+
+	/**
+	 * Verifies that stored data can be shrunk.
+	 *
+	 * @throws IOException Resizing failed
+	 */
+	@Test
+	public void truncating() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+
+		GatheringFileChannelWriter writer = new GatheringFileChannelWriter(file, true);
+		writer.write(new byte[] { 8, 9 }, 0, 2);
+		writer.truncate(4);
+		writer.write(new byte[] { 42 }, 0, 1);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1, 2, 3, 4, 5, 42);
+	}
+
+}
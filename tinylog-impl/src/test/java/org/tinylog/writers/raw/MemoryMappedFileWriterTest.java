@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.atIndex;
+
+/**
+ * Tests for {@link MemoryMappedFileWriter}.
+ */
+public final class MemoryMappedFileWriterTest {
+
+	/**
+	 * Verifies that stored data can be read from tail.
+	 *
+	 * @throws IOException Reading failed
+	 */
+	@Test
+	public void reading() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 });
+
+		MemoryMappedFileWriter writer = new MemoryMappedFileWriter(file, 4);
+		writer.write(new byte[] { 8, 9 }, 0, 2);
+		byte[] data = new byte[16];
+
+		assertThat(writer.readTail(data, 2, 4)).isEqualTo(4);
+		assertThat(data)
+			.contains(6, atIndex(2))
+			.contains(7, atIndex(3))
+			.contains(8, atIndex(4))
+			.contains(9, atIndex(5));
+
+		assertThat(writer.readTail(data, 0, 16)).isEqualTo(10);
+		assertThat(data).startsWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		writer.close();
+	}
+
+	/**
+	 * Verifies that written data will be appended to already existing data, also if it exceeds the mapped chunk, and
+	 * that the file will be truncated to the written data on closing.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void writing() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 0 });
+
+		MemoryMappedFileWriter writer = new MemoryMappedFileWriter(file, 4);
+		writer.write(new byte[] { 1, 2, 3 }, 2);
+		writer.write(new byte[] { 4, 5, 6, 7 }, 1, 2);
+		writer.write(new byte[] { 7, 8, 9, 10, 11, 12, 13, 14, 15 }, 0, 9);
+		writer.flush();
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path)))
+			.containsExactly(0, 1, 2, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15);
+	}
+
+	/**
+	 * Verifies that stored data can be shrunk within the current chunk as well as beyond it.
+	 *
+	 * @throws IOException Resizing failed
+	 */
+	@Test
+	public void truncating() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		file.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+
+		MemoryMappedFileWriter writer = new MemoryMappedFileWriter(file, 4);
+		writer.write(new byte[] { 10, 11 }, 0, 2);
+		writer.truncate(1);
+		writer.truncate(5);
+		writer.write(new byte[] { 42 }, 0, 1);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1, 2, 3, 4, 5, 42);
+	}
+
+	/**
+	 * Verifies that a closed file can be reopened for appending new data directly after the previously written data.
+	 *
+	 * @throws IOException Writing failed
+	 */
+	@Test
+	public void reopening() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+
+		MemoryMappedFileWriter writer = new MemoryMappedFileWriter(new RandomAccessFile(path, "rw"), 4);
+		writer.write(new byte[] { 0, 1, 2, 3, 4 }, 0, 5);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1, 2, 3, 4);
+
+		RandomAccessFile file = new RandomAccessFile(path, "rw");
+		writer = new MemoryMappedFileWriter(file, 4);
+		writer.write(new byte[] { 5, 6 }, 0, 2);
+		writer.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1, 2, 3, 4, 5, 6);
+	}
+
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2021 Martin Winandy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package org.tinylog.writers.raw;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.tinylog.util.FileSystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.atIndex;
+
+/**
+ * Tests for {@link StripedWriterDecorator}.
+ */
+public final class StripedWriterDecoratorTest {
+
+	/**
+	 * Verifies that stored data can be read from tail, including still buffered data.
+	 *
+	 * @throws IOException Reading failed
+	 */
+	@Test
+	public void reading() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 64);
+
+		decorator.write(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, 0, 10);
+
+		byte[] data = new byte[8];
+
+		assertThat(decorator.readTail(data, 2, 4)).isEqualTo(4);
+		assertThat(data)
+			.contains(6, atIndex(2))
+			.contains(7, atIndex(3))
+			.contains(8, atIndex(4))
+			.contains(9, atIndex(5));
+
+		assertThat(decorator.readTail(data, 0, 8)).isEqualTo(8);
+		assertThat(data).startsWith(2, 3, 4, 5, 6, 7, 8, 9);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that a full thread buffer will be merged without flushing explicitly, while data in the current thread
+	 * buffer will be written not before flushing.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void mergeFullBuffer() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 4);
+
+		decorator.write(new byte[] { 1, 2, 3 }, 0, 3);
+		assertThat(Files.readAllBytes(Paths.get(path))).isEmpty();
+
+		decorator.write(new byte[] { 4, 5 }, 0, 2);
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3);
+
+		decorator.flush();
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5);
+
+		decorator.close();
+	}
+
+	/**
+	 * Verifies that data from different threads will be written in the order of writing.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a producer thread
+	 */
+	@Test
+	public void orderedByTime() throws IOException, InterruptedException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 64);
+
+		for (int i = 0; i < 4; ++i) {
+			byte value = (byte) i;
+			Thread thread = new Thread(() -> {
+				try {
+					decorator.write(new byte[] { value }, 0, 1);
+				} catch (IOException ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+			thread.start();
+			thread.join();
+		}
+
+		decorator.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(0, 1, 2, 3);
+	}
+
+	/**
+	 * Verifies that interleaved data from a pool of threads will be written in the order of writing, also if each
+	 * thread writes multiple times.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a producer thread
+	 * @throws ExecutionException
+	 *             Failed to execute writing
+	 */
+	@Test
+	public void orderedByTimeForInterleavedThreads() throws IOException, InterruptedException, ExecutionException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 1024);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			for (int i = 0; i < 100; ++i) {
+				byte value = (byte) i;
+				executor.submit(() -> {
+					decorator.write(new byte[] { value }, 0, 1);
+					return null;
+				}).get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		decorator.close();
+
+		byte[] data = Files.readAllBytes(Paths.get(path));
+		assertThat(data).hasSize(100);
+		for (int i = 0; i < data.length; ++i) {
+			assertThat(data[i]).isEqualTo((byte) i);
+		}
+	}
+
+	/**
+	 * Verifies that the number of buffers is fixed to the number of available processors, rounded up to the next power
+	 * of two, independent of the number of producer threads, and that buffers are allocated lazily.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a producer thread
+	 */
+	@Test
+	public void fixedNumberOfStripes() throws IOException, InterruptedException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 64);
+
+		Object[] stripes = Whitebox.getInternalState(decorator, "stripes");
+		int processors = Runtime.getRuntime().availableProcessors();
+		assertThat(Integer.bitCount(stripes.length)).isEqualTo(1);
+		assertThat(stripes.length).isGreaterThanOrEqualTo(processors).isLessThan(Math.max(2, processors * 2));
+
+		for (Object stripe : stripes) {
+			assertThat(Whitebox.<Object>getInternalState(stripe, "active")).isNull();
+		}
+
+		for (int i = 0; i < 100; ++i) {
+			Thread thread = new Thread(() -> {
+				try {
+					decorator.write(new byte[] { 42 }, 0, 1);
+				} catch (IOException ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+			thread.start();
+			thread.join();
+		}
+
+		assertThat(Whitebox.<Object[]>getInternalState(decorator, "stripes")).isSameAs(stripes);
+
+		decorator.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).hasSize(100);
+	}
+
+	/**
+	 * Verifies that the configured capacity will be divided by the number of buffers, but each buffer gets at least
+	 * 4 KB.
+	 *
+	 * @throws IOException
+	 *             Closing failed
+	 */
+	@Test
+	public void sharedCapacity() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+
+		StripedWriterDecorator large = new StripedWriterDecorator(writer, 1024 * 1024);
+		int stripes = Whitebox.<Object[]>getInternalState(large, "stripes").length;
+		assertThat(Whitebox.<Integer>getInternalState(large, "stripeCapacity"))
+			.isEqualTo(Math.max(1024 * 1024 / stripes, 4 * 1024));
+
+		StripedWriterDecorator small = new StripedWriterDecorator(writer, 4 * 1024);
+		assertThat(Whitebox.<Integer>getInternalState(small, "stripeCapacity")).isEqualTo(4 * 1024);
+
+		StripedWriterDecorator tiny = new StripedWriterDecorator(writer, 64);
+		assertThat(Whitebox.<Integer>getInternalState(tiny, "stripeCapacity")).isEqualTo(64);
+
+		writer.close();
+	}
+
+	/**
+	 * Verifies that byte arrays bigger than the buffer capacity will be output completely and in the correct order.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void dataBiggerThanBuffer() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 4);
+
+		decorator.write(new byte[] { 1, 2 }, 0, 2);
+		decorator.write(new byte[] { 3, 4, 5, 6, 7 }, 0, 5);
+		decorator.write(new byte[] { 8 }, 0, 1);
+		decorator.close();
+
+		assertThat(Files.readAllBytes(Paths.get(path))).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+	}
+
+	/**
+	 * Verifies that data from multiple threads will be neither lost nor reordered within a thread.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 * @throws InterruptedException
+	 *             Interrupted while waiting for a producer thread
+	 */
+	@Test
+	public void multipleProducers() throws IOException, InterruptedException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 64);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; ++i) {
+			byte producer = (byte) i;
+			threads.add(new Thread(() -> {
+				for (int j = 0; j < 1000; ++j) {
+					try {
+						decorator.write(new byte[] { producer, (byte) (j % 100) }, 0, 2);
+					} catch (IOException ex) {
+						throw new IllegalStateException(ex);
+					}
+				}
+			}));
+		}
+
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		decorator.close();
+
+		byte[] data = Files.readAllBytes(Paths.get(path));
+		assertThat(data).hasSize(4 * 1000 * 2);
+
+		int[] counters = new int[4];
+		for (int i = 0; i < data.length; i += 2) {
+			int producer = data[i];
+			assertThat(data[i + 1]).isEqualTo((byte) (counters[producer]++ % 100));
+		}
+		assertThat(counters).containsOnly(1000);
+	}
+
+	/**
+	 * Verifies that stored data can be shrunk.
+	 *
+	 * @throws IOException Resizing failed
+	 */
+	@Test
+	public void truncating() throws IOException {
+		String path = FileSystem.createTemporaryFile();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(path, "rw");
+		RandomAccessFileWriter writer = new RandomAccessFileWriter(randomAccessFile);
+		StripedWriterDecorator decorator = new StripedWriterDecorator(writer, 64);
+
+		decorator.write(new byte[] { 0, 1, 2, 3, 4 }, 0, 5);
+		decorator.flush();
+		decorator.write(new byte[] { 5, 6, 7, 8, 9 }, 0, 5);
+
+		byte[] data = new byte[16];
+
+		decorator.truncate(4);
+		assertThat(decorator.readTail(data, 0, 16)).isEqualTo(6);
+		assertThat(data).startsWith(0, 1, 2, 3, 4, 5);
+
+		decorator.truncate(4);
+		assertThat(decorator.readTail(data, 0, 16)).isEqualTo(2);
+		assertThat(data).startsWith(0, 1);
+
+		decorator.close();
+	}
+
+}
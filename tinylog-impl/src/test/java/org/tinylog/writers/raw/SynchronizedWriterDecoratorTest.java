@@ -14,9 +14,16 @@
 package org.tinylog.writers.raw;
 
 import java.io.IOException;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -36,7 +43,7 @@ public final class SynchronizedWriterDecoratorTest {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
 		byte[] data = new byte[0];
-		new SynchronizedWriterDecorator(mock, new Object()).readTail(data, 1, 2);
+		new SynchronizedWriterDecorator(mock).readTail(data, 1, 2);
 
 		verify(mock).readTail(data, 1, 2);
 	}
@@ -52,7 +59,7 @@ public final class SynchronizedWriterDecoratorTest {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
 		byte[] data = new byte[0];
-		new SynchronizedWriterDecorator(mock, new Object()).write(data, 42);
+		new SynchronizedWriterDecorator(mock).write(data, 42);
 
 		verify(mock).write(data, 0, 42);
 	}
@@ -68,7 +75,7 @@ public final class SynchronizedWriterDecoratorTest {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
 		byte[] data = new byte[0];
-		new SynchronizedWriterDecorator(mock, new Object()).write(data, 1, 42);
+		new SynchronizedWriterDecorator(mock).write(data, 1, 42);
 
 		verify(mock).write(data, 1, 42);
 	}
@@ -83,7 +90,7 @@ public final class SynchronizedWriterDecoratorTest {
 	public void truncate() throws IOException {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
-		new SynchronizedWriterDecorator(mock, new Object()).truncate(42);
+		new SynchronizedWriterDecorator(mock).truncate(42);
 
 		verify(mock).truncate(42);
 	}
@@ -98,7 +105,7 @@ public final class SynchronizedWriterDecoratorTest {
 	public void flush() throws IOException {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
-		new SynchronizedWriterDecorator(mock, new Object()).flush();
+		new SynchronizedWriterDecorator(mock).flush();
 
 		verify(mock).flush();
 	}
@@ -113,9 +120,68 @@ public final class SynchronizedWriterDecoratorTest {
 	public void close() throws IOException {
 		ByteArrayWriter mock = mock(ByteArrayWriter.class);
 
-		new SynchronizedWriterDecorator(mock, new Object()).close();
+		new SynchronizedWriterDecorator(mock).close();
 
 		verify(mock).close();
 	}
 
+	/**
+	 * Verifies that the lock is held while invoking the underlying writer and released afterwards.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	public void locking() throws IOException {
+		ReentrantLock lock = new ReentrantLock();
+		ByteArrayWriter mock = mock(ByteArrayWriter.class);
+		doAnswer(invocation -> {
+			assertThat(lock.isHeldByCurrentThread()).isTrue();
+			return null;
+		}).when(mock).write(any(), anyInt(), anyInt());
+
+		new SynchronizedWriterDecorator(mock, lock).write(new byte[0], 0, 0);
+
+		verify(mock).write(any(), anyInt(), anyInt());
+		assertThat(lock.isLocked()).isFalse();
+	}
+
+	/**
+	 * Verifies that the lock will be released if the underlying writer throws an exception.
+	 *
+	 * @throws IOException
+	 *             Flushing failed
+	 */
+	@Test
+	public void unlockingAfterFailure() throws IOException {
+		ReentrantLock lock = new ReentrantLock();
+		ByteArrayWriter mock = mock(ByteArrayWriter.class);
+		doThrow(IOException.class).when(mock).flush();
+
+		assertThatThrownBy(() -> new SynchronizedWriterDecorator(mock, lock).flush()).isInstanceOf(IOException.class);
+		assertThat(lock.isLocked()).isFalse();
+	}
+
+	/**
+	 * Verifies that the deprecated constructor with a mutex object still synchronizes on the passed mutex.
+	 *
+	 * @throws IOException
+	 *             Writing failed
+	 */
+	@Test
+	@SuppressWarnings("deprecation")
+	public void synchronizingOnMutex() throws IOException {
+		Object mutex = new Object();
+		ByteArrayWriter mock = mock(ByteArrayWriter.class);
+		doAnswer(invocation -> {
+			assertThat(Thread.holdsLock(mutex)).isTrue();
+			return null;
+		}).when(mock).write(any(), anyInt(), anyInt());
+
+		new SynchronizedWriterDecorator(mock, mutex).write(new byte[0], 0, 0);
+
+		verify(mock).write(any(), anyInt(), anyInt());
+		assertThat(Thread.holdsLock(mutex)).isFalse();
+	}
+
 }
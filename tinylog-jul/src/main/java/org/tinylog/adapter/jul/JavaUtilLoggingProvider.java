@@ -18,14 +18,14 @@ import java.util.logging.Logger;
 import org.tinylog.Level;
 import org.tinylog.format.MessageFormatter;
 import org.tinylog.provider.ContextProvider;
-import org.tinylog.provider.LoggingProvider;
+import org.tinylog.provider.LocationAwareLoggingProvider;
 import org.tinylog.provider.NopContextProvider;
 import org.tinylog.runtime.RuntimeProvider;
 
 /**
  * Logging provider that forwards all log entries to {@code java.util.logging}.
  */
-public final class JavaUtilLoggingProvider implements LoggingProvider {
+public final class JavaUtilLoggingProvider implements LocationAwareLoggingProvider {
 
 	private ContextProvider contextProvider;
 
@@ -87,6 +87,21 @@ public final class JavaUtilLoggingProvider implements LoggingProvider {
 		}
 	}
 
+	@Override
+	public void log(final StackTraceElement location, final String tag, final Level level, final Throwable exception,
+		final MessageFormatter formatter, final Object obj, final Object... arguments) {
+		Logger julLogger = Logger.getLogger(location.getClassName());
+		java.util.logging.Level julLevel = translate(level);
+
+		if (julLogger.isLoggable(julLevel)) {
+			String message = String.valueOf(obj);
+			if (arguments != null && arguments.length > 0) {
+				message = formatter.format(message, arguments);
+			}
+			julLogger.logp(julLevel, location.getClassName(), location.getMethodName(), message, exception);
+		}
+	}
+
 	@Override
 	public void shutdown() {
 		// Should be ignored
@@ -210,6 +210,27 @@ public final class JavaUtilLoggingProviderTest {
 		assertThat(record.getSourceClassName()).isEqualTo(JavaUtilLoggingProviderTest.class.getName());
 	}
 
+	/**
+	 * Verifies that a parameterized message will be output with a precomputed location if logged at info level.
+	 */
+	@Test
+	public void logParameterizedMessageAtInfoWithLocation() {
+		JavaUtilLoggingProvider provider = new JavaUtilLoggingProvider();
+
+		Exception exception = new RuntimeException();
+		AdvancedMessageFormatter formatter = new AdvancedMessageFormatter(Locale.ROOT, false);
+		StackTraceElement location = new StackTraceElement("example.MyClass", "foo", "MyClass.java", 42);
+		provider.log(location, null, Level.INFO, exception, formatter, "Hello {}", new Object[] { "User" });
+		assertThat(handler.getRecords()).hasSize(1);
+
+		LogRecord record = handler.getRecords().get(0);
+		assertThat(record.getLevel()).isEqualTo(java.util.logging.Level.INFO);
+		assertThat(record.getThrown()).isEqualTo(exception);
+		assertThat(record.getMessage()).isEqualTo("Hello User");
+		assertThat(record.getSourceClassName()).isEqualTo("example.MyClass");
+		assertThat(record.getSourceMethodName()).isEqualTo("foo");
+	}
+
 	/**
 	 * Verifies that logging provider can be shutdowned without throwing any exception.
 	 */